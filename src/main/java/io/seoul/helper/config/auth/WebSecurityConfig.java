@@ -21,11 +21,18 @@ public class WebSecurityConfig extends WebSecurityConfigurerAdapter {
                 .antMatchers("/", "/css/**", "/images/**", "/js/**", "/h2-console/**",
                         "/login**", "/home**", "/callback/", "/error", "/favicon.ico")//로그인이 없어도 접근 가능한 구역
                 .permitAll()
+                .antMatchers(HttpMethod.POST, "/api/v1/batch/teams/pending-review/repair",
+                        "/api/v1/batch/settle-queue/repair")
+                .hasRole(Role.ADMIN.name())
+                .antMatchers(HttpMethod.GET, "/api/v1/batch/leases")
+                .hasRole(Role.ADMIN.name())
+                .antMatchers(HttpMethod.GET, "/api/v1/teams/stream")
+                .hasAnyRole(Role.USER.name(), Role.ADMIN.name())
                 .antMatchers(HttpMethod.GET, "/api/v1/**")
                 .permitAll()
                 .antMatchers(HttpMethod.POST, "/api/v1/batch/**")
                 .permitAll()
-                .antMatchers("/admin/**").hasRole(Role.ADMIN.name())
+                .antMatchers("/admin/**", "/actuator/**").hasRole(Role.ADMIN.name())
                 .antMatchers("/api/v1/**").hasAnyRole(Role.USER.name(), Role.ADMIN.name())
                 .anyRequest().authenticated()
                 .and()
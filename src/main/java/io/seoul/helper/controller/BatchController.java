@@ -1,39 +1,42 @@
 package io.seoul.helper.controller;
 
 import io.seoul.helper.config.aop.ApiControllerTryCatch;
+import io.seoul.helper.controller.dto.BatchRunResponseDto;
 import io.seoul.helper.controller.dto.ResultResponseDto;
-import io.seoul.helper.controller.team.dto.TeamResponseDto;
+import io.seoul.helper.controller.team.dto.TeamBatchResponseDto;
+import io.seoul.helper.domain.batch.BatchStatus;
 import io.seoul.helper.service.ReviewService;
-import io.seoul.helper.service.TeamService;
+import io.seoul.helper.service.SettleQueueService;
+import io.seoul.helper.service.TeamBatchService;
+import io.seoul.helper.service.TeamInnerService;
+import io.seoul.helper.service.batch.BatchLeaseService;
+import io.seoul.helper.service.batch.ReviewTimeoutBatchJob;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.http.HttpStatus;
+import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RestController;
 
-import javax.persistence.EntityNotFoundException;
 import java.time.LocalDateTime;
-import java.util.List;
+import java.util.Optional;
 
 @Slf4j
 @RestController
 @RequiredArgsConstructor
 public class BatchController {
-    private final TeamService teamService;
+    private final TeamBatchService teamBatchService;
     private final ReviewService reviewService;
+    private final TeamInnerService teamInnerService;
+    private final SettleQueueService settleQueueService;
+    private final BatchLeaseService batchLeaseService;
 
     @PostMapping(value = "/api/v1/batch/teams/status")
     public ResultResponseDto<?> updateTeamStatus() {
-        List<TeamResponseDto> data;
+        Optional<TeamBatchResponseDto> data;
         try {
-            data = teamService.updateTeamsLessThanCurrentTime();
-        } catch (EntityNotFoundException e) {
-            log.info("not found team status : " + e.getMessage() + "\n\n" + e.getCause());
-            return ResultResponseDto.builder()
-                    .statusCode(HttpStatus.OK.value())
-                    .message(e.getMessage())
-                    .data(null)
-                    .build();
+            data = batchLeaseService.runWithLease(TeamBatchService.TIMEOUT_LEASE,
+                    () -> teamBatchService.timeoutTeams(LocalDateTime.now()));
         } catch (Exception e) {
             log.error("failed to update team status : " + e.getMessage() + "\n\n" + e.getCause());
             return ResultResponseDto.builder()
@@ -42,22 +45,72 @@ public class BatchController {
                     .data(null)
                     .build();
         }
+        if (!data.isPresent())
+            return leaseHeld(TeamBatchService.TIMEOUT_LEASE);
         return ResultResponseDto.builder()
                 .statusCode(HttpStatus.OK.value())
-                .message("OK")
-                .data(data)
+                .message(data.get().getUpdatedCount() == 0 ? "Nothing to change teams" : "OK")
+                .data(data.get())
                 .build();
     }
 
     @ApiControllerTryCatch
     @PostMapping(value = "/api/v1/batch/review/timeout")
-    public ResultResponseDto<?> updateReviewTimeout() {
-        reviewService.updateReviewsTimeoutBatch(LocalDateTime.now());
+    public ResultResponseDto<?> updateReviewTimeout() throws Exception {
+        Optional<BatchRunResponseDto> data = batchLeaseService.runWithLease(ReviewTimeoutBatchJob.NAME,
+                () -> reviewService.timeoutReviews(LocalDateTime.now()));
+        if (!data.isPresent())
+            return leaseHeld(ReviewTimeoutBatchJob.NAME);
+        return ResultResponseDto.builder()
+                .statusCode(HttpStatus.OK.value())
+                .message(data.get().getStatus() == BatchStatus.COMPLETED ? "OK" : "Batch run is not completed")
+                .data(data.get())
+                .build();
+    }
+
+    @ApiControllerTryCatch
+    @PostMapping(value = "/api/v1/batch/teams/pending-review/repair")
+    public ResultResponseDto<?> repairPendingReviewCount() throws Exception {
+        Optional<TeamBatchResponseDto> data = batchLeaseService.runWithLease(
+                TeamInnerService.PENDING_REVIEW_REPAIR_LEASE, teamInnerService::repairPendingReviewCounts);
+        if (!data.isPresent())
+            return leaseHeld(TeamInnerService.PENDING_REVIEW_REPAIR_LEASE);
         return ResultResponseDto.builder()
                 .statusCode(HttpStatus.OK.value())
                 .message("OK")
-                .data(null)
+                .data(data.get())
                 .build();
     }
 
+    @ApiControllerTryCatch
+    @PostMapping(value = "/api/v1/batch/settle-queue/repair")
+    public ResultResponseDto<?> repairSettleQueueCount() throws Exception {
+        Optional<Long> data = batchLeaseService.runWithLease(SettleQueueService.REPAIR_LEASE,
+                settleQueueService::repairPending);
+        if (!data.isPresent())
+            return leaseHeld(SettleQueueService.REPAIR_LEASE);
+        return ResultResponseDto.builder()
+                .statusCode(HttpStatus.OK.value())
+                .message("OK")
+                .data(data.get())
+                .build();
+    }
+
+    @ApiControllerTryCatch
+    @GetMapping(value = "/api/v1/batch/leases")
+    public ResultResponseDto<?> leases() {
+        return ResultResponseDto.builder()
+                .statusCode(HttpStatus.OK.value())
+                .message("OK")
+                .data(batchLeaseService.findLeases())
+                .build();
+    }
+
+    private ResultResponseDto<?> leaseHeld(String name) {
+        return ResultResponseDto.builder()
+                .statusCode(HttpStatus.CONFLICT.value())
+                .message(String.format("Batch %s is running on another node", name))
+                .data(null)
+                .build();
+    }
 }
@@ -5,8 +5,10 @@ import io.seoul.helper.config.auth.dto.SessionUser;
 import io.seoul.helper.controller.review.dto.ReviewResponseDto;
 import io.seoul.helper.controller.team.dto.TeamListRequestDto;
 import io.seoul.helper.controller.team.dto.TeamResponseDto;
+import io.seoul.helper.controller.team.dto.TeamSliceResponseDto;
 import io.seoul.helper.domain.member.MemberRole;
 import io.seoul.helper.domain.team.TeamStatus;
+import io.seoul.helper.service.PageModelAssembler;
 import io.seoul.helper.service.ProjectService;
 import io.seoul.helper.service.ReviewService;
 import io.seoul.helper.service.TeamService;
@@ -20,7 +22,12 @@ import org.springframework.web.bind.annotation.RequestParam;
 
 import java.time.LocalDateTime;
 import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.function.Supplier;
 
 @Controller
 @AllArgsConstructor
@@ -28,6 +35,7 @@ public class PageController {
     private final TeamService teamService;
     private final ProjectService projectService;
     private final ReviewService reviewService;
+    private final PageModelAssembler pageModelAssembler;
 
     @GetMapping(value = "/")
     public String home(Model model, @LoginUser SessionUser user) {
@@ -51,8 +59,6 @@ public class PageController {
             allTeamDto.setStartTimePrevious(LocalDateTime.now());
             allTeamDto.setExcludeNickname(user.getNickname());
             allTeamDto.setStatusList(activeTeamStatusList);
-            Page<TeamResponseDto> allTeams = teamService.findTeams(allTeamDto);
-            model.addAttribute("allTeams", allTeams);
 
             List<TeamStatus> myTeamStatusList = new ArrayList<>();
             myTeamStatusList.add(TeamStatus.WAITING);
@@ -63,12 +69,19 @@ public class PageController {
             myTeamDto.setNickname(user.getNickname());
             myTeamDto.setSort("period.startTime,asc");
             myTeamDto.setStatusList(myTeamStatusList);
-            Page<TeamResponseDto> myTeams = teamService.findTeams(myTeamDto);
-            model.addAttribute("myTeams", myTeams);
+
+            Map<String, Supplier<?>> loads = new LinkedHashMap<>();
+            loads.put("allTeams", () -> teamService.findTeams(allTeamDto));
+            loads.put("myTeams", () -> teamService.findTeams(myTeamDto));
+            loads.put("projects", projectService::findAllProjects);
+            Map<String, Object> fallbacks = new HashMap<>();
+            fallbacks.put("allTeams", Page.empty());
+            fallbacks.put("myTeams", Page.empty());
+            fallbacks.put("projects", Collections.emptyList());
+            model.addAllAttributes(pageModelAssembler.assemble("home", loads, fallbacks));
 
             model.addAttribute("userNickname", user.getNickname());
             model.addAttribute("user", user);
-            model.addAttribute("projects", projectService.findAllProjects());
             model.addAttribute("locations", teamService.findAllLocation());
         }
         return "index";
@@ -77,19 +90,20 @@ public class PageController {
     @GetMapping(value = "/list_team")
     public String teamList(Model model, @LoginUser SessionUser user,
                            @RequestParam(value = "offset", required = false, defaultValue = "0") int offset,
-                           @RequestParam(value = "sort", required = false, defaultValue = "id,desc") String sort) {
+                           @RequestParam(value = "sort", required = false, defaultValue = "id,desc") String sort,
+                           @RequestParam(value = "after", required = false) String after) {
         TeamListRequestDto dto = new TeamListRequestDto();
         dto.setOffset(offset);
         dto.setStartTimePrevious(LocalDateTime.now());
         dto.setSort(sort);
+        dto.setAfter(after);
         dto.setExcludeNickname(user.getNickname());
         List<TeamStatus> statusList = new ArrayList<>();
         statusList.add(TeamStatus.READY);
         statusList.add(TeamStatus.FULL);
         dto.setStatusList(statusList);
-        Page<TeamResponseDto> teams = teamService.findTeams(dto);
+        addTeamsAttribute(model, dto);
 
-        model.addAttribute("teams", teams);
         model.addAttribute("user", user);
         model.addAttribute("sort", sort);
         model.addAttribute("projects", projectService.findAllProjects());
@@ -101,11 +115,13 @@ public class PageController {
     @GetMapping(value = "/list_myteam")
     public String myTeamList(Model model, @LoginUser SessionUser user,
                              @RequestParam(value = "offset", required = false, defaultValue = "0") int offset,
-                             @RequestParam(value = "sort", required = false, defaultValue = "id,desc") String sort) {
+                             @RequestParam(value = "sort", required = false, defaultValue = "id,desc") String sort,
+                             @RequestParam(value = "after", required = false) String after) {
         TeamListRequestDto dto = new TeamListRequestDto();
         dto.setNickname(user.getNickname());
         dto.setOffset(offset);
         dto.setSort(sort);
+        dto.setAfter(after);
         dto.setEndTimePrevious(null);
         List<TeamStatus> statusList = new ArrayList<>();
         statusList.add(TeamStatus.WAITING);
@@ -113,9 +129,8 @@ public class PageController {
         statusList.add(TeamStatus.FULL);
         statusList.add(TeamStatus.REVIEW);
         dto.setStatusList(statusList);
-        Page<TeamResponseDto> teams = teamService.findTeams(dto);
+        addTeamsAttribute(model, dto);
 
-        model.addAttribute("teams", teams);
         model.addAttribute("user", user);
         model.addAttribute("sort", sort);
         model.addAttribute("projects", projectService.findAllProjects());
@@ -124,6 +139,18 @@ public class PageController {
         return "list_myteam";
     }
 
+    private void addTeamsAttribute(Model model, TeamListRequestDto dto) {
+        if (dto.getAfter() == null) {
+            Page<TeamResponseDto> teams = teamService.findTeams(dto);
+            model.addAttribute("teams", teams);
+            return;
+        }
+        TeamSliceResponseDto slice = teamService.findTeamsAfter(dto);
+        model.addAttribute("after", dto.getAfter());
+        model.addAttribute("teams", slice == null ? new ArrayList<>() : slice.getContent());
+        model.addAttribute("next", slice == null ? null : slice.getNext());
+    }
+
     @GetMapping(value = "/mentee")
     public String time(Model model, @LoginUser SessionUser user,
                        @RequestParam(value = "offset", required = false, defaultValue = "0") int offset) {
@@ -0,0 +1,27 @@
+package io.seoul.helper.controller.dto;
+
+import lombok.Builder;
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+
+@Getter
+public class BatchLeaseResponseDto {
+    private String name;
+    private String lockedBy;
+    private LocalDateTime lockedAt;
+    private LocalDateTime lockUntil;
+    private boolean active;
+    private boolean owned;
+
+    @Builder
+    public BatchLeaseResponseDto(String name, String lockedBy, LocalDateTime lockedAt, LocalDateTime lockUntil,
+                                 boolean active, boolean owned) {
+        this.name = name;
+        this.lockedBy = lockedBy;
+        this.lockedAt = lockedAt;
+        this.lockUntil = lockUntil;
+        this.active = active;
+        this.owned = owned;
+    }
+}
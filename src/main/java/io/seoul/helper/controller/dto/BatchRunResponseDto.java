@@ -0,0 +1,34 @@
+package io.seoul.helper.controller.dto;
+
+import io.seoul.helper.domain.batch.BatchStatus;
+import lombok.Builder;
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+
+@Getter
+public class BatchRunResponseDto {
+    private Long runId;
+    private String jobName;
+    private BatchStatus status;
+    private LocalDateTime cutoffTime;
+    private boolean resumed;
+    private int partitionCount;
+    private long processed;
+    private long skipped;
+    private long failed;
+
+    @Builder
+    public BatchRunResponseDto(Long runId, String jobName, BatchStatus status, LocalDateTime cutoffTime,
+                               boolean resumed, int partitionCount, long processed, long skipped, long failed) {
+        this.runId = runId;
+        this.jobName = jobName;
+        this.status = status;
+        this.cutoffTime = cutoffTime;
+        this.resumed = resumed;
+        this.partitionCount = partitionCount;
+        this.processed = processed;
+        this.skipped = skipped;
+        this.failed = failed;
+    }
+}
@@ -0,0 +1,35 @@
+package io.seoul.helper.controller.dto;
+
+import lombok.Builder;
+import lombok.Getter;
+import org.springframework.util.DigestUtils;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.Arrays;
+import java.util.Objects;
+import java.util.stream.Collectors;
+
+@Getter
+public class VersionDto {
+    private String eTag;
+    private long lastModified;
+
+    @Builder
+    public VersionDto(String eTag, long lastModified) {
+        this.eTag = eTag;
+        this.lastModified = lastModified;
+    }
+
+    public static VersionDto of(LocalDateTime lastModified, Object... keys) {
+        String key = Arrays.stream(keys)
+                .map(Objects::toString)
+                .collect(Collectors.joining("|"));
+        return VersionDto.builder()
+                .eTag("\"" + DigestUtils.md5DigestAsHex(key.getBytes(StandardCharsets.UTF_8)) + "\"")
+                .lastModified(lastModified == null ? -1L
+                        : lastModified.atZone(ZoneId.systemDefault()).toInstant().toEpochMilli())
+                .build();
+    }
+}
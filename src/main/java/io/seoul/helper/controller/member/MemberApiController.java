@@ -5,7 +5,6 @@ import io.seoul.helper.config.auth.LoginUser;
 import io.seoul.helper.config.auth.dto.SessionUser;
 import io.seoul.helper.controller.dto.ResultResponseDto;
 import io.seoul.helper.controller.member.dto.MemberRequestDto;
-import io.seoul.helper.service.MailSenderService;
 import io.seoul.helper.service.MemberService;
 import lombok.AllArgsConstructor;
 import org.springframework.http.HttpStatus;
@@ -18,14 +17,12 @@ import org.springframework.web.bind.annotation.RestController;
 @RestController
 public class MemberApiController {
     private final MemberService memberService;
-    private final MailSenderService mailSenderService;
 
     @ApiControllerTryCatch
     @PostMapping(value = "/api/v1/member")
     public ResultResponseDto joinTeam(@LoginUser SessionUser user,
                                       @RequestBody MemberRequestDto requestDto) throws Exception {
         memberService.joinTeam(user, requestDto);
-        mailSenderService.sendJoinMail(user, requestDto.getTeamId(), "helper.42seoul.io");
         return ResultResponseDto.builder()
                 .statusCode(HttpStatus.OK.value())
                 .message("OK")
@@ -38,7 +35,6 @@ public class MemberApiController {
     public ResultResponseDto outTeam(@LoginUser SessionUser user,
                                      @RequestBody MemberRequestDto requestDto) throws Exception {
         memberService.outTeam(user, requestDto);
-        mailSenderService.sendOutMail(user, requestDto.getTeamId(), "helper.42seoul.io");
         return ResultResponseDto.builder()
                 .statusCode(HttpStatus.OK.value())
                 .message("OK")
@@ -0,0 +1,28 @@
+package io.seoul.helper.controller.project;
+
+import io.seoul.helper.config.aop.ApiControllerTryCatch;
+import io.seoul.helper.config.auth.LoginUser;
+import io.seoul.helper.config.auth.dto.SessionUser;
+import io.seoul.helper.controller.dto.ResultResponseDto;
+import io.seoul.helper.service.ProjectService;
+import lombok.AllArgsConstructor;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.bind.annotation.DeleteMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+@RestController
+@AllArgsConstructor
+public class ProjectApiController {
+    private final ProjectService projectService;
+
+    @ApiControllerTryCatch
+    @DeleteMapping(value = "/api/v1/projects/cache")
+    public ResultResponseDto<?> evictProjectCache(@LoginUser SessionUser user) throws Exception {
+        projectService.evictProjectCache(user);
+        return ResultResponseDto.builder()
+                .statusCode(HttpStatus.OK.value())
+                .message("OK")
+                .data(null)
+                .build();
+    }
+}
@@ -1,18 +1,17 @@
 package io.seoul.helper.controller.project.dto;
 
 import lombok.Builder;
-import lombok.Data;
 import lombok.Getter;
-import lombok.NoArgsConstructor;
 
 import java.io.Serializable;
 
+/**
+ * Shared by the project caches, so it has no setters.
+ */
 @Getter
-@Data
-@NoArgsConstructor
 public class ProjectDto implements Serializable {
-    private Long id;
-    private String name;
+    private final Long id;
+    private final String name;
 
     @Builder
     public ProjectDto(Long id, String name) {
@@ -4,6 +4,7 @@ import io.seoul.helper.config.aop.ApiControllerTryCatch;
 import io.seoul.helper.config.auth.LoginUser;
 import io.seoul.helper.config.auth.dto.SessionUser;
 import io.seoul.helper.controller.dto.ResultResponseDto;
+import io.seoul.helper.controller.dto.VersionDto;
 import io.seoul.helper.controller.review.dto.ReviewNeedSettleCountResponseDto;
 import io.seoul.helper.controller.review.dto.ReviewNeedSettleResponseDto;
 import io.seoul.helper.controller.review.dto.ReviewResponseDto;
@@ -12,6 +13,7 @@ import io.seoul.helper.service.ReviewService;
 import lombok.AllArgsConstructor;
 import org.springframework.http.HttpStatus;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 
 import java.util.List;
 
@@ -35,7 +37,10 @@ public class ReviewApiController {
 
     @ApiControllerTryCatch
     @GetMapping(value = "/api/v1/review")
-    public ResultResponseDto<?> findReviewByMember(@RequestParam Long memberId) throws Exception {
+    public ResultResponseDto<?> findReviewByMember(@RequestParam Long memberId, WebRequest webRequest) throws Exception {
+        VersionDto version = reviewService.findReviewVersionByMemberId(memberId);
+        if (webRequest.checkNotModified(version.getETag(), version.getLastModified()))
+            return null;
         ReviewResponseDto dto = reviewService.findReviewByMemberId(memberId);
         return ResultResponseDto.builder()
                 .statusCode(HttpStatus.OK.value())
@@ -4,16 +4,21 @@ import io.seoul.helper.config.aop.ApiControllerTryCatch;
 import io.seoul.helper.config.auth.LoginUser;
 import io.seoul.helper.config.auth.dto.SessionUser;
 import io.seoul.helper.controller.dto.ResultResponseDto;
+import io.seoul.helper.controller.settle.dto.SettleBulkPostResponseDto;
+import io.seoul.helper.controller.settle.dto.SettleExportRequestDto;
 import io.seoul.helper.controller.settle.dto.SettlePayRequestDto;
+import io.seoul.helper.controller.settle.dto.SettlePayResponseDto;
 import io.seoul.helper.controller.settle.dto.SettlePostRequestDto;
 import io.seoul.helper.controller.settle.dto.SettleResponseDto;
+import io.seoul.helper.service.SettleExportService;
 import io.seoul.helper.service.SettleService;
 import lombok.AllArgsConstructor;
-import org.springframework.http.HttpStatus;
-import org.springframework.http.ResponseEntity;
+import org.springframework.http.*;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 import java.net.URI;
+import java.nio.charset.StandardCharsets;
 import java.util.List;
 
 @RestController
@@ -21,6 +26,7 @@ import java.util.List;
 @AllArgsConstructor
 public class SettleApiController {
     private SettleService settleService;
+    private SettleExportService settleExportService;
 
     @ApiControllerTryCatch
     @PostMapping("settle")
@@ -34,6 +40,49 @@ public class SettleApiController {
         return ResponseEntity.created(URI.create("/api/v1/settle/" + responseDto.getId())).body(rst);
     }
 
+    @ApiControllerTryCatch
+    @PostMapping("settle/bulk")
+    public ResultResponseDto<?> postSettles(@LoginUser SessionUser user,
+                                            @RequestBody List<SettlePostRequestDto> dtos) throws Exception {
+        SettleBulkPostResponseDto responseDto = settleService.postSettles(user, dtos);
+        return ResultResponseDto.builder()
+                .statusCode(HttpStatus.OK.value())
+                .message("OK")
+                .data(responseDto)
+                .build();
+    }
+
+    @GetMapping("settle/export")
+    public ResponseEntity<StreamingResponseBody> exportSettles(@LoginUser SessionUser user,
+                                                               @ModelAttribute SettleExportRequestDto dto) throws Exception {
+        StreamingResponseBody body = settleExportService.exportSettles(user, dto);
+        boolean csv = SettleExportService.FORMAT_CSV.equals(dto.getFormat());
+        return ResponseEntity.ok()
+                .contentType(csv ? new MediaType("text", "csv", StandardCharsets.UTF_8)
+                        : MediaType.parseMediaType("application/x-ndjson"))
+                .header(HttpHeaders.CONTENT_DISPOSITION, ContentDisposition.attachment()
+                        .filename("settles." + dto.getFormat())
+                        .build()
+                        .toString())
+                .body(body);
+    }
+
+    /**
+     * Only exportSettles lets exceptions out, the other endpoints are wrapped by ApiControllerTryCatch.
+     * Its return type must stay ResponseEntity<StreamingResponseBody> for streaming, so a rejected
+     * export gets the usual error body here instead of from the aspect.
+     */
+    @ExceptionHandler(Exception.class)
+    public ResponseEntity<ResultResponseDto<?>> handleExportException(Exception e) {
+        return ResponseEntity.badRequest()
+                .contentType(MediaType.APPLICATION_JSON)
+                .body(ResultResponseDto.builder()
+                        .statusCode(HttpStatus.BAD_REQUEST.value())
+                        .message(e.getMessage())
+                        .data(null)
+                        .build());
+    }
+
     @ApiControllerTryCatch
     @GetMapping("settle/{id}")
     public ResultResponseDto<?> getSettle(@PathVariable Long id) throws Exception {
@@ -48,12 +97,13 @@ public class SettleApiController {
     @ApiControllerTryCatch
     @PostMapping("settle/pay-wallet")
     public ResultResponseDto<?> postSettlePay(@LoginUser SessionUser user,
+                                              @RequestHeader(value = "Idempotency-Key", required = false) String idempotencyKey,
                                               @RequestBody List<SettlePayRequestDto> dtos) throws Exception {
-        settleService.payWallet(user, dtos);
+        SettlePayResponseDto responseDto = settleService.payWallet(user, idempotencyKey, dtos);
         return ResultResponseDto.builder()
                 .statusCode(HttpStatus.OK.value())
                 .message("OK")
-                .data(null)
+                .data(responseDto)
                 .build();
     }
 }
@@ -0,0 +1,20 @@
+package io.seoul.helper.controller.settle.dto;
+
+import lombok.Builder;
+import lombok.Getter;
+
+import java.util.List;
+
+@Getter
+public class SettleBulkPostResponseDto {
+    private int created;
+    private int rejected;
+    private List<SettlePostResultDto> results;
+
+    @Builder
+    public SettleBulkPostResponseDto(int created, int rejected, List<SettlePostResultDto> results) {
+        this.created = created;
+        this.rejected = rejected;
+        this.results = results;
+    }
+}
@@ -0,0 +1,24 @@
+package io.seoul.helper.controller.settle.dto;
+
+import io.seoul.helper.domain.settle.SettleStatus;
+import lombok.Data;
+import org.springframework.format.annotation.DateTimeFormat;
+
+import java.time.LocalDateTime;
+
+@Data
+public class SettleExportRequestDto {
+    private String format;
+    private SettleStatus status;
+    private Boolean walletPaid;
+
+    @DateTimeFormat(pattern = "yyyy-MM-dd HH:mm")
+    private LocalDateTime createdFrom;
+
+    @DateTimeFormat(pattern = "yyyy-MM-dd HH:mm")
+    private LocalDateTime createdTo;
+
+    public SettleExportRequestDto() {
+        this.format = "csv";
+    }
+}
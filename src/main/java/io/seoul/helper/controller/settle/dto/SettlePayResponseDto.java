@@ -0,0 +1,29 @@
+package io.seoul.helper.controller.settle.dto;
+
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Getter
+@NoArgsConstructor
+public class SettlePayResponseDto {
+    private String idempotencyKey;
+    private boolean replayed;
+    private int paid;
+    private int alreadyPaid;
+    private int missing;
+    private List<SettlePayResultDto> results;
+
+    @Builder(toBuilder = true)
+    public SettlePayResponseDto(String idempotencyKey, boolean replayed, int paid, int alreadyPaid, int missing,
+                                List<SettlePayResultDto> results) {
+        this.idempotencyKey = idempotencyKey;
+        this.replayed = replayed;
+        this.paid = paid;
+        this.alreadyPaid = alreadyPaid;
+        this.missing = missing;
+        this.results = results;
+    }
+}
@@ -0,0 +1,5 @@
+package io.seoul.helper.controller.settle.dto;
+
+public enum SettlePayResult {
+    PAID, ALREADY_PAID, MISSING
+}
@@ -0,0 +1,18 @@
+package io.seoul.helper.controller.settle.dto;
+
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+@Getter
+@NoArgsConstructor
+public class SettlePayResultDto {
+    private Long id;
+    private SettlePayResult result;
+
+    @Builder
+    public SettlePayResultDto(Long id, SettlePayResult result) {
+        this.id = id;
+        this.result = result;
+    }
+}
@@ -0,0 +1,5 @@
+package io.seoul.helper.controller.settle.dto;
+
+public enum SettlePostResult {
+    CREATED, ALREADY_SETTLED, NOT_UPDATED, MISSING, DUPLICATED, INVALID
+}
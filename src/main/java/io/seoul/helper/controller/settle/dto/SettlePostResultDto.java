@@ -0,0 +1,16 @@
+package io.seoul.helper.controller.settle.dto;
+
+import lombok.Builder;
+import lombok.Getter;
+
+@Getter
+public class SettlePostResultDto {
+    private Long reviewId;
+    private SettlePostResult result;
+
+    @Builder
+    public SettlePostResultDto(Long reviewId, SettlePostResult result) {
+        this.reviewId = reviewId;
+        this.result = result;
+    }
+}
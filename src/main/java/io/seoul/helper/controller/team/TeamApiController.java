@@ -4,18 +4,26 @@ import io.seoul.helper.config.aop.ApiControllerTryCatch;
 import io.seoul.helper.config.auth.LoginUser;
 import io.seoul.helper.config.auth.dto.SessionUser;
 import io.seoul.helper.controller.dto.ResultResponseDto;
+import io.seoul.helper.controller.dto.VersionDto;
 import io.seoul.helper.controller.team.dto.*;
-import io.seoul.helper.service.MailSenderService;
+import io.seoul.helper.service.ActiveTeamPage;
 import io.seoul.helper.service.ReviewService;
+import io.seoul.helper.service.TeamSearchIndex;
 import io.seoul.helper.service.TeamService;
+import io.seoul.helper.service.TeamStreamHub;
 import lombok.AllArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.data.domain.Page;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
 import javax.persistence.EntityNotFoundException;
 import java.util.List;
+import java.util.Optional;
 
 @Slf4j
 @RestController
@@ -23,7 +31,8 @@ import java.util.List;
 public class TeamApiController {
     private final TeamService teamService;
     private final ReviewService reviewService;
-    private final MailSenderService mailSenderService;
+    private final TeamStreamHub teamStreamHub;
+    private final TeamSearchIndex teamSearchIndex;
 
     @ApiControllerTryCatch
     @PostMapping(value = "/api/v1/team")
@@ -38,8 +47,44 @@ public class TeamApiController {
 
     @ApiControllerTryCatch
     @GetMapping(value = "/api/v1/teams")
-    public ResultResponseDto teamList(@ModelAttribute TeamListRequestDto requestDto) throws EntityNotFoundException {
-        Page<TeamResponseDto> teams = teamService.findTeams(requestDto);
+    public ResultResponseDto teamList(@LoginUser SessionUser user, @ModelAttribute TeamListRequestDto requestDto,
+                                      WebRequest webRequest) throws Exception {
+        boolean annotate = requestDto.isCheckJoinable() && user != null;
+        if (requestDto.getAfter() != null) {
+            List<Long> teamIds = null;
+            if (!annotate) {
+                teamIds = teamService.findTeamIdsAfter(requestDto);
+                VersionDto version = teamService.findTeamsVersion(teamIds);
+                if (webRequest.checkNotModified(version.getETag(), version.getLastModified()))
+                    return null;
+            }
+            TeamSliceResponseDto teams = teamService.findTeamsAfter(requestDto, teamIds);
+            if (annotate && teams != null)
+                teams = teamService.annotateJoinable(user, teams);
+            return ResultResponseDto.builder()
+                    .statusCode(HttpStatus.OK.value())
+                    .message("OK")
+                    .data(teams)
+                    .build();
+        }
+        Page<TeamResponseDto> teams;
+        Optional<ActiveTeamPage> activeTeams = teamService.findActiveTeams(requestDto);
+        if (activeTeams.isPresent()) {
+            VersionDto version = activeTeams.get().getVersion();
+            if (!annotate && webRequest.checkNotModified(version.getETag(), version.getLastModified()))
+                return null;
+            teams = activeTeams.get().getTeams();
+        } else {
+            Page<Long> teamIds = teamService.findTeamIdPage(requestDto);
+            if (!annotate) {
+                VersionDto version = teamService.findTeamsVersion(teamIds);
+                if (webRequest.checkNotModified(version.getETag(), version.getLastModified()))
+                    return null;
+            }
+            teams = teamService.findTeams(teamIds);
+        }
+        if (annotate && teams != null)
+            teams = teamService.annotateJoinable(user, teams);
         return ResultResponseDto.builder()
                 .statusCode(HttpStatus.OK.value())
                 .message("OK")
@@ -47,9 +92,30 @@ public class TeamApiController {
                 .build();
     }
 
+    @ApiControllerTryCatch
+    @GetMapping(value = "/api/v1/teams/search")
+    public ResultResponseDto searchTeams(@ModelAttribute TeamSearchRequestDto requestDto) throws Exception {
+        List<TeamSearchResponseDto> teams = teamSearchIndex.search(requestDto);
+        return ResultResponseDto.builder()
+                .statusCode(HttpStatus.OK.value())
+                .message("OK")
+                .data(teams)
+                .build();
+    }
+
+    @GetMapping(value = "/api/v1/teams/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public ResponseEntity<SseEmitter> teamStream() {
+        return teamStreamHub.subscribe()
+                .map(ResponseEntity::ok)
+                .orElseGet(() -> ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE).build());
+    }
+
     @ApiControllerTryCatch
     @GetMapping(value = "/api/v1/team/{id}")
-    public ResultResponseDto getTeam(@PathVariable Long id) throws EntityNotFoundException {
+    public ResultResponseDto getTeam(@PathVariable Long id, WebRequest webRequest) throws EntityNotFoundException {
+        VersionDto version = teamService.findTeamVersion(id);
+        if (webRequest.checkNotModified(version.getETag(), version.getLastModified()))
+            return null;
         TeamResponseDto data = teamService.findTeam(id);
         return ResultResponseDto.builder()
                 .statusCode(HttpStatus.OK.value())
@@ -60,7 +126,9 @@ public class TeamApiController {
 
     @ApiControllerTryCatch
     @GetMapping(value = "/api/v1/team/locations")
-    public ResultResponseDto teamLocationList() throws Exception {
+    public ResultResponseDto teamLocationList(WebRequest webRequest) throws Exception {
+        if (webRequest.checkNotModified(teamService.findAllLocationVersion().getETag()))
+            return null;
         List<TeamLocationDto> locations = teamService.findAllLocation();
         return ResultResponseDto.builder()
                 .statusCode(HttpStatus.OK.value())
@@ -75,7 +143,6 @@ public class TeamApiController {
                                     @PathVariable Long id,
                                     @RequestBody TeamUpdateRequestDto requestDto) throws Exception {
         TeamResponseDto data = teamService.updateTeamByMentor(user, id, requestDto);
-        mailSenderService.sendMatchMail(data.getTeamId(), "helper.42seoul.io");
         return ResultResponseDto.builder()
                 .statusCode(HttpStatus.OK.value())
                 .message("OK")
@@ -89,7 +156,6 @@ public class TeamApiController {
                                         @RequestBody TeamReviewRequestDto requestDto,
                                         @PathVariable String id) throws Exception {
         teamService.reviewTeam(user, requestDto);
-        mailSenderService.sendEndMail(requestDto.getId(), "helper.42seoul.io");
         return ResultResponseDto.builder()
                 .statusCode(HttpStatus.OK.value())
                 .message("OK")
@@ -101,7 +167,6 @@ public class TeamApiController {
     @PostMapping(value = "/api/v1/team/{id}/revoke")
     public ResultResponseDto revokeTeam(@LoginUser SessionUser user, @PathVariable Long id) throws Exception {
         teamService.revokeTeam(user, id);
-        mailSenderService.sendEndMail(id, "helper.42seoul.io");
         return ResultResponseDto.builder()
                 .statusCode(HttpStatus.OK.value())
                 .message("OK")
@@ -0,0 +1,20 @@
+package io.seoul.helper.controller.team.dto;
+
+import lombok.Builder;
+import lombok.Getter;
+
+import java.util.List;
+
+@Getter
+public class TeamBatchResponseDto {
+    private long updatedCount;
+    private int chunkCount;
+    private List<Long> sampleTeamIds;
+
+    @Builder
+    public TeamBatchResponseDto(long updatedCount, int chunkCount, List<Long> sampleTeamIds) {
+        this.updatedCount = updatedCount;
+        this.chunkCount = chunkCount;
+        this.sampleTeamIds = sampleTeamIds;
+    }
+}
@@ -0,0 +1,29 @@
+package io.seoul.helper.controller.team.dto;
+
+import io.seoul.helper.domain.team.Team;
+import io.seoul.helper.domain.team.TeamLocation;
+import io.seoul.helper.domain.team.TeamStatus;
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+
+@Getter
+public class TeamDeltaDto {
+    private Long teamId;
+    private TeamStatus status;
+    private TeamLocation location;
+    private Long maxMemberCount;
+    private Long currentMemberCount;
+    private LocalDateTime startTime;
+    private LocalDateTime endTime;
+
+    public TeamDeltaDto(Team team) {
+        this.teamId = team.getId();
+        this.status = team.getStatus();
+        this.location = team.getLocation();
+        this.maxMemberCount = team.getMaxMemberCount();
+        this.currentMemberCount = team.getCurrentMemberCount();
+        this.startTime = team.getPeriod().getStartTime();
+        this.endTime = team.getPeriod().getEndTime();
+    }
+}
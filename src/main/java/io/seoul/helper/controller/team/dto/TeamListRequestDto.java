@@ -20,6 +20,8 @@ public class TeamListRequestDto {
     private List<TeamStatus> statusList;
     private TeamLocation location;
     private String sort;
+    private String after;
+    private boolean checkJoinable;
 
     @DateTimeFormat(pattern = "yyyy-MM-dd HH:mm")
     private LocalDateTime startTimePrevious;
@@ -1,5 +1,6 @@
 package io.seoul.helper.controller.team.dto;
 
+import com.fasterxml.jackson.annotation.JsonInclude;
 import io.seoul.helper.controller.member.dto.MemberResponseDto;
 import io.seoul.helper.controller.project.dto.ProjectDto;
 import io.seoul.helper.domain.member.MemberRole;
@@ -31,6 +32,16 @@ public class TeamResponseDto {
 
     private List<MemberResponseDto> members;
 
+    /**
+     * Only set when the list was asked to check joinability for the current user, and left out
+     * of the JSON otherwise. joinable follows the checks of a join: READY, not full, not already
+     * a member and no schedule conflict.
+     */
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    private Boolean joinable;
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    private Long conflictsWith;
+
     public TeamResponseDto(Team team) {
         this.teamId = team.getId();
         this.project = ProjectDto.builder()
@@ -57,6 +68,29 @@ public class TeamResponseDto {
         this.description = team.getDescription();
     }
 
+    private TeamResponseDto(TeamResponseDto team, Long userId, Long conflictsWith) {
+        this.teamId = team.teamId;
+        this.maxMemberCount = team.maxMemberCount;
+        this.currentMemberCount = team.currentMemberCount;
+        this.project = team.project;
+        this.status = team.status;
+        this.location = team.location;
+        this.subject = team.subject;
+        this.description = team.description;
+        this.startTime = team.startTime;
+        this.endTime = team.endTime;
+        this.members = team.members;
+        this.joinable = conflictsWith == null
+                && team.status == TeamStatus.READY
+                && team.currentMemberCount < team.maxMemberCount
+                && team.members.stream().noneMatch(m -> m.getUserId().equals(userId));
+        this.conflictsWith = conflictsWith;
+    }
+
+    public TeamResponseDto withJoinable(Long userId, Long conflictsWith) {
+        return new TeamResponseDto(this, userId, conflictsWith);
+    }
+
     public String getNicknameByRole(MemberRole memberRole) {
         String nickname = "empty";
         Optional<String> optional = Optional.of(nickname);
@@ -0,0 +1,19 @@
+package io.seoul.helper.controller.team.dto;
+
+import io.seoul.helper.domain.team.TeamLocation;
+import io.seoul.helper.domain.team.TeamStatus;
+import lombok.Data;
+
+import java.util.List;
+
+@Data
+public class TeamSearchRequestDto {
+    private String query;
+    private List<TeamStatus> statusList;
+    private TeamLocation location;
+    private int limit;
+
+    public TeamSearchRequestDto() {
+        this.limit = 10;
+    }
+}
@@ -0,0 +1,36 @@
+package io.seoul.helper.controller.team.dto;
+
+import io.seoul.helper.domain.team.TeamLocation;
+import io.seoul.helper.domain.team.TeamStatus;
+import lombok.Builder;
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+
+@Getter
+public class TeamSearchResponseDto {
+    private Long teamId;
+    private String subject;
+    private String projectName;
+    private TeamStatus status;
+    private TeamLocation location;
+    private LocalDateTime startTime;
+    private float score;
+    private String subjectSnippet;
+    private String descriptionSnippet;
+
+    @Builder
+    public TeamSearchResponseDto(Long teamId, String subject, String projectName, TeamStatus status,
+                                 TeamLocation location, LocalDateTime startTime, float score,
+                                 String subjectSnippet, String descriptionSnippet) {
+        this.teamId = teamId;
+        this.subject = subject;
+        this.projectName = projectName;
+        this.status = status;
+        this.location = location;
+        this.startTime = startTime;
+        this.score = score;
+        this.subjectSnippet = subjectSnippet;
+        this.descriptionSnippet = descriptionSnippet;
+    }
+}
@@ -0,0 +1,20 @@
+package io.seoul.helper.controller.team.dto;
+
+import lombok.Builder;
+import lombok.Getter;
+
+import java.util.List;
+
+@Getter
+public class TeamSliceResponseDto {
+    private List<TeamResponseDto> content;
+    private String next;
+    private boolean hasNext;
+
+    @Builder
+    public TeamSliceResponseDto(List<TeamResponseDto> content, String next, boolean hasNext) {
+        this.content = content;
+        this.next = next;
+        this.hasNext = hasNext;
+    }
+}
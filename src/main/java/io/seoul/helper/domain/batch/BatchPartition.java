@@ -0,0 +1,80 @@
+package io.seoul.helper.domain.batch;
+
+import io.seoul.helper.domain.common.BaseTime;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import javax.persistence.*;
+
+@Getter
+@Entity
+@NoArgsConstructor
+public class BatchPartition extends BaseTime {
+    @Id
+    @Column
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "run_id", nullable = false)
+    private BatchRun run;
+
+    @Column(nullable = false)
+    private int partitionNo;
+
+    @Column(nullable = false)
+    private Long fromId;
+
+    @Column(nullable = false)
+    private Long toId;
+
+    @Column(nullable = false)
+    private Long lastId;
+
+    @Column(nullable = false)
+    @Enumerated(EnumType.STRING)
+    private BatchStatus status;
+
+    @Column(nullable = false)
+    private long processed;
+
+    @Column(nullable = false)
+    private long skipped;
+
+    @Column(nullable = false)
+    private long failed;
+
+    @Builder
+    public BatchPartition(BatchRun run, int partitionNo, Long fromId, Long toId) {
+        this.run = run;
+        this.partitionNo = partitionNo;
+        this.fromId = fromId;
+        this.toId = toId;
+        this.lastId = 0L;
+        this.status = BatchStatus.RUNNING;
+    }
+
+    public BatchPartition checkpoint(Long lastId, long processed, long skipped, long failed) {
+        this.lastId = lastId;
+        this.processed += processed;
+        this.skipped += skipped;
+        this.failed += failed;
+        return this;
+    }
+
+    public BatchPartition resume() {
+        this.status = BatchStatus.RUNNING;
+        return this;
+    }
+
+    public BatchPartition complete() {
+        this.status = BatchStatus.COMPLETED;
+        return this;
+    }
+
+    public BatchPartition fail() {
+        this.status = BatchStatus.FAILED;
+        return this;
+    }
+}
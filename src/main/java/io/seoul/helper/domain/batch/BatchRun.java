@@ -0,0 +1,58 @@
+package io.seoul.helper.domain.batch;
+
+import io.seoul.helper.domain.common.BaseTime;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import javax.persistence.*;
+import java.time.LocalDateTime;
+
+@Getter
+@Entity
+@NoArgsConstructor
+public class BatchRun extends BaseTime {
+    @Id
+    @Column
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(nullable = false)
+    private String jobName;
+
+    @Column(nullable = false)
+    @Enumerated(EnumType.STRING)
+    private BatchStatus status;
+
+    @Column(nullable = false)
+    private LocalDateTime cutoffTime;
+
+    @Column(nullable = false)
+    private long processed;
+
+    @Column(nullable = false)
+    private long skipped;
+
+    @Column(nullable = false)
+    private long failed;
+
+    @Builder
+    public BatchRun(String jobName, LocalDateTime cutoffTime) {
+        this.jobName = jobName;
+        this.cutoffTime = cutoffTime;
+        this.status = BatchStatus.RUNNING;
+    }
+
+    public BatchRun resume() {
+        this.status = BatchStatus.RUNNING;
+        return this;
+    }
+
+    public BatchRun finish(BatchStatus status, long processed, long skipped, long failed) {
+        this.status = status;
+        this.processed = processed;
+        this.skipped = skipped;
+        this.failed = failed;
+        return this;
+    }
+}
@@ -0,0 +1,15 @@
+package io.seoul.helper.domain.batch;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+@Getter
+@RequiredArgsConstructor
+public enum BatchStatus {
+    RUNNING("STATUS_RUNNING", "실행중"),
+    COMPLETED("STATUS_COMPLETED", "완료"),
+    FAILED("STATUS_FAILED", "실패");
+
+    private final String key;
+    private final String name;
+}
@@ -0,0 +1,20 @@
+package io.seoul.helper.domain.common;
+
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import javax.persistence.Column;
+import javax.persistence.Entity;
+import javax.persistence.Id;
+
+@Getter
+@Entity
+@NoArgsConstructor
+public class QueueCounter {
+    @Id
+    @Column
+    private String name;
+
+    @Column(nullable = false)
+    private Long pending;
+}
@@ -0,0 +1,82 @@
+package io.seoul.helper.domain.mail;
+
+import io.seoul.helper.domain.common.BaseTime;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import javax.persistence.*;
+import java.time.LocalDateTime;
+
+@Getter
+@Entity
+@NoArgsConstructor
+public class MailOutbox extends BaseTime {
+    private static final int MAX_ERROR_LENGTH = 1000;
+
+    @Id
+    @Column
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(nullable = false)
+    private String recipient;
+
+    @Column(nullable = false)
+    private String subject;
+
+    @Lob
+    @Column(nullable = false)
+    private String content;
+
+    @Column(nullable = false)
+    @Enumerated(EnumType.STRING)
+    private MailOutboxStatus status;
+
+    @Column(nullable = false)
+    private int attempts;
+
+    @Column(nullable = false)
+    private LocalDateTime nextAttemptAt;
+
+    @Column(length = MAX_ERROR_LENGTH)
+    private String lastError;
+
+    @Column
+    private LocalDateTime sentAt;
+
+    @Builder
+    public MailOutbox(String recipient, String subject, String content) {
+        this.recipient = recipient;
+        this.subject = subject;
+        this.content = content;
+        this.status = MailOutboxStatus.PENDING;
+        this.attempts = 0;
+        this.nextAttemptAt = LocalDateTime.now();
+    }
+
+    public MailOutbox sent(LocalDateTime now) {
+        this.status = MailOutboxStatus.SENT;
+        this.sentAt = now;
+        this.lastError = null;
+        return this;
+    }
+
+    public MailOutbox retry(String error, LocalDateTime nextAttemptAt) {
+        this.nextAttemptAt = nextAttemptAt;
+        this.lastError = truncate(error);
+        return this;
+    }
+
+    public MailOutbox dead(String error) {
+        this.status = MailOutboxStatus.DEAD;
+        this.lastError = truncate(error);
+        return this;
+    }
+
+    private String truncate(String error) {
+        if (error == null || error.length() <= MAX_ERROR_LENGTH)
+            return error;
+        return error.substring(0, MAX_ERROR_LENGTH);
+    }
+}
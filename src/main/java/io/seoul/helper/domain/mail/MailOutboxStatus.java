@@ -0,0 +1,15 @@
+package io.seoul.helper.domain.mail;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+@Getter
+@RequiredArgsConstructor
+public enum MailOutboxStatus {
+    PENDING("STATUS_PENDING", "대기"),
+    SENT("STATUS_SENT", "발송"),
+    DEAD("STATUS_DEAD", "실패");
+
+    private final String key;
+    private final String name;
+}
@@ -42,7 +42,7 @@ public class Settle extends BaseTime {
     }
 
     public boolean payWallet() {
-        if (walletPaid)
+        if (Boolean.TRUE.equals(walletPaid))
             return false;
         walletPaid = true;
         return true;
@@ -0,0 +1,28 @@
+package io.seoul.helper.domain.settle;
+
+import io.seoul.helper.domain.common.BaseTime;
+import io.seoul.helper.domain.review.Review;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import javax.persistence.*;
+
+@Getter
+@Entity
+@NoArgsConstructor
+public class SettleQueue extends BaseTime {
+    @Id
+    @Column
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @OneToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "review_id", nullable = false)
+    private Review review;
+
+    @Builder
+    public SettleQueue(Review review) {
+        this.review = review;
+    }
+}
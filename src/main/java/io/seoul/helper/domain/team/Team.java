@@ -47,6 +47,9 @@ public class Team extends BaseTime {
     @Column
     private String description;
 
+    @Column(nullable = false)
+    private Integer pendingReviewCount;
+
     public Long getCurrentMemberCount() {
         return new Long(members.size());
     }
@@ -97,6 +100,10 @@ public class Team extends BaseTime {
         this.status = TeamStatus.REVIEW;
     }
 
+    public void updatePendingReviewCount(int pendingReviewCount) {
+        this.pendingReviewCount = pendingReviewCount;
+    }
+
     public void updateTeamRevoke() {
         this.status = TeamStatus.REVOKE;
     }
@@ -116,5 +123,6 @@ public class Team extends BaseTime {
         this.project = project;
         this.subject = subject;
         this.description = description;
+        this.pendingReviewCount = 0;
     }
 }
@@ -0,0 +1,20 @@
+package io.seoul.helper.repository.batch;
+
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+
+@Getter
+public class BatchLease {
+    private final String name;
+    private final LocalDateTime lockUntil;
+    private final LocalDateTime lockedAt;
+    private final String lockedBy;
+
+    public BatchLease(String name, LocalDateTime lockUntil, LocalDateTime lockedAt, String lockedBy) {
+        this.name = name;
+        this.lockUntil = lockUntil;
+        this.lockedAt = lockedAt;
+        this.lockedBy = lockedBy;
+    }
+}
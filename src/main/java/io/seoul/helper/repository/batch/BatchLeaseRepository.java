@@ -0,0 +1,50 @@
+package io.seoul.helper.repository.batch;
+
+import lombok.AllArgsConstructor;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * Plain JDBC so acquiring a lease is a single conditional statement on both H2 and MariaDB.
+ * A lease is free when its row is missing or its lock_until has passed.
+ */
+@Repository
+@AllArgsConstructor
+public class BatchLeaseRepository {
+    private final JdbcTemplate jdbcTemplate;
+
+    public boolean tryAcquire(String name, LocalDateTime now, LocalDateTime lockUntil, String lockedBy) {
+        int updated = jdbcTemplate.update("UPDATE batch_lease SET lock_until = ?, locked_at = ?, locked_by = ? " +
+                        "WHERE name = ? AND lock_until <= ?",
+                Timestamp.valueOf(lockUntil), Timestamp.valueOf(now), lockedBy, name, Timestamp.valueOf(now));
+        if (updated > 0)
+            return true;
+        try {
+            return jdbcTemplate.update("INSERT INTO batch_lease (name, lock_until, locked_at, locked_by) " +
+                            "VALUES (?, ?, ?, ?)",
+                    name, Timestamp.valueOf(lockUntil), Timestamp.valueOf(now), lockedBy) > 0;
+        } catch (DuplicateKeyException e) {
+            return false;
+        }
+    }
+
+    public boolean release(String name, String lockedBy, LocalDateTime lockedAt, LocalDateTime lockUntil) {
+        return jdbcTemplate.update("UPDATE batch_lease SET lock_until = ? " +
+                        "WHERE name = ? AND locked_by = ? AND locked_at = ?",
+                Timestamp.valueOf(lockUntil), name, lockedBy, Timestamp.valueOf(lockedAt)) > 0;
+    }
+
+    public List<BatchLease> findAll() {
+        return jdbcTemplate.query("SELECT name, lock_until, locked_at, locked_by FROM batch_lease ORDER BY name",
+                (rs, rowNum) -> new BatchLease(
+                        rs.getString("name"),
+                        rs.getTimestamp("lock_until").toLocalDateTime(),
+                        rs.getTimestamp("locked_at").toLocalDateTime(),
+                        rs.getString("locked_by")));
+    }
+}
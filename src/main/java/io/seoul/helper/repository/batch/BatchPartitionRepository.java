@@ -0,0 +1,14 @@
+package io.seoul.helper.repository.batch;
+
+import io.seoul.helper.domain.batch.BatchPartition;
+import io.seoul.helper.domain.batch.BatchRun;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+
+@Repository
+public interface BatchPartitionRepository extends JpaRepository<BatchPartition, Long> {
+
+    List<BatchPartition> findBatchPartitionsByRunOrderByPartitionNo(BatchRun run);
+}
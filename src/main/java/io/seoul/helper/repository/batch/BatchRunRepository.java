@@ -0,0 +1,14 @@
+package io.seoul.helper.repository.batch;
+
+import io.seoul.helper.domain.batch.BatchRun;
+import io.seoul.helper.domain.batch.BatchStatus;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+import java.util.Optional;
+
+@Repository
+public interface BatchRunRepository extends JpaRepository<BatchRun, Long> {
+
+    Optional<BatchRun> findFirstByJobNameAndStatusNotOrderByIdDesc(String jobName, BatchStatus status);
+}
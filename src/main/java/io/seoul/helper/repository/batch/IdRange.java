@@ -0,0 +1,18 @@
+package io.seoul.helper.repository.batch;
+
+import lombok.Getter;
+
+@Getter
+public class IdRange {
+    private final Long fromId;
+    private final Long toId;
+
+    public IdRange(Long fromId, Long toId) {
+        this.fromId = fromId;
+        this.toId = toId;
+    }
+
+    public boolean isEmpty() {
+        return fromId == null || toId == null || fromId > toId;
+    }
+}
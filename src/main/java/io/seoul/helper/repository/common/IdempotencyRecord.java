@@ -0,0 +1,23 @@
+package io.seoul.helper.repository.common;
+
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+
+@Getter
+public class IdempotencyRecord {
+    private final String scope;
+    private final String requestKey;
+    private final String requestHash;
+    private final String response;
+    private final LocalDateTime created;
+
+    public IdempotencyRecord(String scope, String requestKey, String requestHash, String response,
+                             LocalDateTime created) {
+        this.scope = scope;
+        this.requestKey = requestKey;
+        this.requestHash = requestHash;
+        this.response = response;
+        this.created = created;
+    }
+}
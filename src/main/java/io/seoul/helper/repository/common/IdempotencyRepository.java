@@ -0,0 +1,46 @@
+package io.seoul.helper.repository.common;
+
+import lombok.AllArgsConstructor;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.Optional;
+
+/**
+ * A key is claimed inside the caller's transaction, so a request that rolls back frees its key
+ * and a concurrent request with the same key waits on the primary key until the first one ends.
+ */
+@Repository
+@AllArgsConstructor
+public class IdempotencyRepository {
+    private final JdbcTemplate jdbcTemplate;
+
+    public boolean claim(String scope, String requestKey, String requestHash, LocalDateTime now) {
+        try {
+            return jdbcTemplate.update("INSERT INTO idempotency_record (scope, request_key, request_hash, created) " +
+                    "VALUES (?, ?, ?, ?)", scope, requestKey, requestHash, Timestamp.valueOf(now)) > 0;
+        } catch (DuplicateKeyException e) {
+            return false;
+        }
+    }
+
+    public void complete(String scope, String requestKey, String response) {
+        jdbcTemplate.update("UPDATE idempotency_record SET response = ? WHERE scope = ? AND request_key = ?",
+                response, scope, requestKey);
+    }
+
+    public Optional<IdempotencyRecord> find(String scope, String requestKey) {
+        return jdbcTemplate.query("SELECT scope, request_key, request_hash, response, created " +
+                        "FROM idempotency_record WHERE scope = ? AND request_key = ?",
+                (rs, rowNum) -> new IdempotencyRecord(
+                        rs.getString("scope"),
+                        rs.getString("request_key"),
+                        rs.getString("request_hash"),
+                        rs.getString("response"),
+                        rs.getTimestamp("created").toLocalDateTime()),
+                scope, requestKey).stream().findFirst();
+    }
+}
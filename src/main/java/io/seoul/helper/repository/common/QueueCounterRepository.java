@@ -0,0 +1,19 @@
+package io.seoul.helper.repository.common;
+
+import io.seoul.helper.domain.common.QueueCounter;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.stereotype.Repository;
+
+@Repository
+public interface QueueCounterRepository extends JpaRepository<QueueCounter, String> {
+
+    @Modifying
+    @Query("UPDATE QueueCounter c SET c.pending = c.pending + :delta WHERE c.name = :name")
+    int addPending(String name, long delta);
+
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("UPDATE QueueCounter c SET c.pending = :pending WHERE c.name = :name")
+    int updatePending(String name, long pending);
+}
@@ -0,0 +1,32 @@
+package io.seoul.helper.repository.mail;
+
+import io.seoul.helper.domain.mail.MailOutbox;
+import io.seoul.helper.domain.mail.MailOutboxStatus;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Repository
+public interface MailOutboxRepository extends JpaRepository<MailOutbox, Long> {
+
+    @Query(value = "SELECT m.id " +
+            "FROM MailOutbox m " +
+            "WHERE m.status = :status AND m.nextAttemptAt <= :currentTime " +
+            "ORDER BY m.nextAttemptAt, m.id"
+    )
+    List<Long> findMailOutboxIdsByStatusAndNextAttemptBefore(MailOutboxStatus status, LocalDateTime currentTime,
+                                                             Pageable pageable);
+
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query(value = "UPDATE MailOutbox m SET m.attempts = m.attempts + 1, m.nextAttemptAt = :claimUntil " +
+            "WHERE m.id = :id AND m.status = :status AND m.nextAttemptAt <= :currentTime"
+    )
+    int claimMailOutbox(Long id, MailOutboxStatus status, LocalDateTime currentTime, LocalDateTime claimUntil);
+
+    long countByStatus(MailOutboxStatus status);
+}
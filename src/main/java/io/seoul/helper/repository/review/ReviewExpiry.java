@@ -0,0 +1,16 @@
+package io.seoul.helper.repository.review;
+
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+
+@Getter
+public class ReviewExpiry {
+    private final Long reviewId;
+    private final LocalDateTime created;
+
+    public ReviewExpiry(Long reviewId, LocalDateTime created) {
+        this.reviewId = reviewId;
+        this.created = created;
+    }
+}
@@ -4,12 +4,14 @@ import io.seoul.helper.domain.review.Review;
 import io.seoul.helper.domain.review.ReviewStatus;
 import io.seoul.helper.domain.team.Team;
 import io.seoul.helper.domain.user.User;
+import io.seoul.helper.repository.batch.IdRange;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.stereotype.Repository;
 
 import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -20,22 +22,56 @@ public interface ReviewRepository extends JpaRepository<Review, Long> {
 
     Optional<Review> findReviewByIdAndUser(Long id, User user);
 
-    @Query(value = "SELECT r " +
+    @Query(value = "SELECT max(r.updated) " +
+            "FROM Review r, Member m " +
+            "WHERE m.id = :memberId AND r.team = m.team AND r.user = m.user"
+    )
+    LocalDateTime findReviewUpdatedByMemberId(Long memberId);
+
+    @Query(value = "SELECT new io.seoul.helper.repository.review.ReviewSettleCandidate(" +
+            "r.id, r.description, r.score.fun, r.score.nice, r.score.time, r.score.interested, r.status, r.updated, " +
+            "t.id, m.id, m.role, m.creator, u.id, u.nickname, u.picture) " +
+            "FROM SettleQueue q " +
+            "JOIN q.review r " +
+            "JOIN r.team t " +
+            "JOIN r.user u " +
+            "JOIN Member m ON m.team = t AND m.user = u " +
+            "ORDER BY q.created DESC, q.id DESC"
+    )
+    List<ReviewSettleCandidate> findReviewSettleCandidates(Pageable pageable);
+
+    @Query(value = "SELECT new io.seoul.helper.repository.review.ReviewSettleState(r.id, r.status, s.id) " +
+            "FROM Review r " +
+            "LEFT JOIN Settle s ON s.review = r " +
+            "WHERE r.id IN (:ids)"
+    )
+    List<ReviewSettleState> findReviewSettleStatesByIdIn(Collection<Long> ids);
+
+    @Query(value = "SELECT r.id " +
+            "FROM Review r " +
+            "WHERE r.status = :status AND r.created <= :created"
+    )
+    List<Long> findReviewIdsByStatusAndCreatedBefore(ReviewStatus status, LocalDateTime created);
+
+    @Query(value = "SELECT new io.seoul.helper.repository.batch.IdRange(min(r.team.id), max(r.team.id)) " +
             "FROM Review r " +
-            "LEFT JOIN Settle s " +
-            "ON r.id = s.review.id " +
-            "WHERE s.review.id is NULL AND r.status = 'UPDATED' ORDER BY r.updated DESC, r.id DESC"
+            "WHERE r.status = :status AND r.created <= :created"
     )
-    List<Review> findReviewsByNotSettle(Pageable pageable);
+    IdRange findTeamIdRangeByStatusAndCreatedBefore(ReviewStatus status, LocalDateTime created);
 
-    @Query(value = "SELECT count(r.id) " +
+    @Query(value = "SELECT r.id " +
             "FROM Review r " +
-            "LEFT JOIN Settle s " +
-            "ON r.id = s.review.id " +
-            "WHERE s.review.id is NULL AND r.status = 'UPDATED' " +
-            "GROUP BY r.status"
+            "WHERE r.status = :status AND r.created <= :created " +
+            "AND r.team.id between :fromId and :toId AND r.id > :lastId " +
+            "ORDER BY r.id"
     )
-    Long getReviewNeedSettleCount();
+    List<Long> findReviewIdsByStatusAndCreatedBeforeAndTeamIdRange(ReviewStatus status, LocalDateTime created,
+                                                                   Long fromId, Long toId, Long lastId,
+                                                                   Pageable pageable);
 
-    List<Review> findReviewsByCreatedIsBeforeAndStatusEquals(LocalDateTime created, ReviewStatus status);
+    @Query(value = "SELECT new io.seoul.helper.repository.review.ReviewExpiry(r.id, r.created) " +
+            "FROM Review r " +
+            "WHERE r.status = :status AND r.created <= :created"
+    )
+    List<ReviewExpiry> findReviewExpiriesByStatusAndCreatedBefore(ReviewStatus status, LocalDateTime created);
 }
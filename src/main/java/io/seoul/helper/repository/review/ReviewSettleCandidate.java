@@ -0,0 +1,47 @@
+package io.seoul.helper.repository.review;
+
+import io.seoul.helper.domain.member.MemberRole;
+import io.seoul.helper.domain.review.ReviewStatus;
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+
+@Getter
+public class ReviewSettleCandidate {
+    private final Long reviewId;
+    private final String description;
+    private final Integer fun;
+    private final Integer nice;
+    private final Integer time;
+    private final Integer interested;
+    private final ReviewStatus status;
+    private final LocalDateTime updated;
+    private final Long teamId;
+    private final Long memberId;
+    private final MemberRole memberRole;
+    private final Boolean creator;
+    private final Long userId;
+    private final String nickname;
+    private final String picture;
+
+    public ReviewSettleCandidate(Long reviewId, String description, Integer fun, Integer nice, Integer time,
+                                 Integer interested, ReviewStatus status, LocalDateTime updated, Long teamId,
+                                 Long memberId, MemberRole memberRole, Boolean creator,
+                                 Long userId, String nickname, String picture) {
+        this.reviewId = reviewId;
+        this.description = description;
+        this.fun = fun;
+        this.nice = nice;
+        this.time = time;
+        this.interested = interested;
+        this.status = status;
+        this.updated = updated;
+        this.teamId = teamId;
+        this.memberId = memberId;
+        this.memberRole = memberRole;
+        this.creator = creator;
+        this.userId = userId;
+        this.nickname = nickname;
+        this.picture = picture;
+    }
+}
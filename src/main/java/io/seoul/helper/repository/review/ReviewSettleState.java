@@ -0,0 +1,25 @@
+package io.seoul.helper.repository.review;
+
+import io.seoul.helper.domain.review.ReviewStatus;
+import lombok.Getter;
+
+@Getter
+public class ReviewSettleState {
+    private final Long reviewId;
+    private final ReviewStatus status;
+    private final Long settleId;
+
+    public ReviewSettleState(Long reviewId, ReviewStatus status, Long settleId) {
+        this.reviewId = reviewId;
+        this.status = status;
+        this.settleId = settleId;
+    }
+
+    public boolean isUpdated() {
+        return status == ReviewStatus.UPDATED;
+    }
+
+    public boolean isSettled() {
+        return settleId != null;
+    }
+}
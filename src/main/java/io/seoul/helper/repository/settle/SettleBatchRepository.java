@@ -0,0 +1,58 @@
+package io.seoul.helper.repository.settle;
+
+import io.seoul.helper.domain.settle.SettleStatus;
+import lombok.AllArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Plain JDBC so a month-end settlement is sent as one statement batch instead of an
+ * identity insert per Settle entity, and so wallet payouts can lock the rows they classify.
+ */
+@Repository
+@AllArgsConstructor
+public class SettleBatchRepository {
+    private final JdbcTemplate jdbcTemplate;
+
+    public int insertSettles(Long adminId, Map<Long, SettleStatus> decisions, LocalDateTime now) {
+        if (decisions.isEmpty())
+            return 0;
+        Timestamp timestamp = Timestamp.valueOf(now);
+        int[][] counts = jdbcTemplate.batchUpdate("INSERT INTO settle " +
+                        "(admin_id, review_id, status, wallet_paid, created, updated) VALUES (?, ?, ?, ?, ?, ?)",
+                new ArrayList<>(decisions.entrySet()), decisions.size(), (ps, decision) -> {
+                    ps.setLong(1, adminId);
+                    ps.setLong(2, decision.getKey());
+                    ps.setString(3, decision.getValue().name());
+                    ps.setBoolean(4, false);
+                    ps.setTimestamp(5, timestamp);
+                    ps.setTimestamp(6, timestamp);
+                });
+        return Arrays.stream(counts)
+                .flatMapToInt(Arrays::stream)
+                .map(o -> o < 0 ? 1 : o)
+                .sum();
+    }
+
+    /**
+     * Locks the given settle rows until the transaction ends, so a concurrent payout of the
+     * same ids waits here and then sees them as paid.
+     */
+    public List<SettlePayment> findSettlePaymentsForUpdate(Collection<Long> ids) {
+        if (ids.isEmpty())
+            return new ArrayList<>();
+        return jdbcTemplate.query("SELECT id, wallet_paid FROM settle WHERE id IN (" +
+                        String.join(", ", Collections.nCopies(ids.size(), "?")) + ") FOR UPDATE",
+                (rs, rowNum) -> new SettlePayment(rs.getLong("id"), rs.getBoolean("wallet_paid")),
+                ids.toArray());
+    }
+}
@@ -0,0 +1,55 @@
+package io.seoul.helper.repository.settle;
+
+import io.seoul.helper.domain.member.MemberRole;
+import io.seoul.helper.domain.settle.SettleStatus;
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+
+@Getter
+public class SettleExportRow {
+    private final Long settleId;
+    private final SettleStatus status;
+    private final Boolean walletPaid;
+    private final LocalDateTime created;
+    private final LocalDateTime updated;
+    private final String adminNickname;
+    private final Long reviewId;
+    private final Integer fun;
+    private final Integer nice;
+    private final Integer time;
+    private final Integer interested;
+    private final String description;
+    private final Long teamId;
+    private final String teamSubject;
+    private final Long userId;
+    private final String email;
+    private final String nickname;
+    private final String fullname;
+    private final MemberRole memberRole;
+
+    public SettleExportRow(Long settleId, SettleStatus status, Boolean walletPaid, LocalDateTime created,
+                           LocalDateTime updated, String adminNickname, Long reviewId, Integer fun, Integer nice,
+                           Integer time, Integer interested, String description, Long teamId, String teamSubject,
+                           Long userId, String email, String nickname, String fullname, MemberRole memberRole) {
+        this.settleId = settleId;
+        this.status = status;
+        this.walletPaid = walletPaid;
+        this.created = created;
+        this.updated = updated;
+        this.adminNickname = adminNickname;
+        this.reviewId = reviewId;
+        this.fun = fun;
+        this.nice = nice;
+        this.time = time;
+        this.interested = interested;
+        this.description = description;
+        this.teamId = teamId;
+        this.teamSubject = teamSubject;
+        this.userId = userId;
+        this.email = email;
+        this.nickname = nickname;
+        this.fullname = fullname;
+        this.memberRole = memberRole;
+    }
+}
@@ -0,0 +1,18 @@
+package io.seoul.helper.repository.settle;
+
+import lombok.Getter;
+
+@Getter
+public class SettlePayment {
+    private final Long id;
+    private final Boolean walletPaid;
+
+    public SettlePayment(Long id, Boolean walletPaid) {
+        this.id = id;
+        this.walletPaid = walletPaid;
+    }
+
+    public boolean isPaid() {
+        return Boolean.TRUE.equals(walletPaid);
+    }
+}
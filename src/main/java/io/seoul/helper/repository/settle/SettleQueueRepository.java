@@ -0,0 +1,24 @@
+package io.seoul.helper.repository.settle;
+
+import io.seoul.helper.domain.settle.SettleQueue;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.stereotype.Repository;
+
+import javax.persistence.LockModeType;
+import java.util.Collection;
+import java.util.List;
+
+@Repository
+public interface SettleQueueRepository extends JpaRepository<SettleQueue, Long> {
+
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT q FROM SettleQueue q WHERE q.review.id IN (:reviewIds)")
+    List<SettleQueue> findSettleQueuesForUpdateByReviewIdIn(Collection<Long> reviewIds);
+
+    @Modifying
+    @Query("DELETE FROM SettleQueue q WHERE q.review.id IN (:reviewIds)")
+    int deleteByReviewIdIn(Collection<Long> reviewIds);
+}
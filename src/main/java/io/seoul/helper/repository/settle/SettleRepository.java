@@ -3,12 +3,33 @@ package io.seoul.helper.repository.settle;
 import io.seoul.helper.domain.settle.Settle;
 import io.seoul.helper.domain.settle.SettleStatus;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
 import java.util.Collection;
-import java.util.List;
+import java.util.stream.Stream;
 
 @Repository
-public interface SettleRepository extends JpaRepository<Settle, Long> {
-    List<Settle> findSettlesByStatusInAndWalletPaid(Collection<SettleStatus> status, boolean walletPaid);
+public interface SettleRepository extends JpaRepository<Settle, Long>, SettleRepositoryCustom {
+
+    @Query("SELECT new io.seoul.helper.repository.settle.SettleSummary(" +
+            "s.id, s.status, a.id, a.nickname, r.id, r.description, " +
+            "r.score.fun, r.score.nice, r.score.time, r.score.interested, " +
+            "u.id, u.email, u.nickname, u.fullname, u.picture, m.role) " +
+            "FROM Settle s " +
+            "JOIN s.admin a " +
+            "JOIN s.review r " +
+            "JOIN r.user u " +
+            "JOIN Member m ON m.team = r.team AND m.user = u " +
+            "WHERE s.status IN (:statusList) AND s.walletPaid = :walletPaid " +
+            "ORDER BY u.id, s.id")
+    Stream<SettleSummary> findSettleSummariesByStatusInAndWalletPaid(Collection<SettleStatus> statusList,
+                                                                    boolean walletPaid);
+
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("UPDATE Settle s SET s.walletPaid = true, s.updated = :currentTime " +
+            "WHERE s.id IN (:ids) AND (s.walletPaid = false OR s.walletPaid IS NULL)")
+    int updateWalletPaidByIdIn(Collection<Long> ids, LocalDateTime currentTime);
 }
@@ -0,0 +1,12 @@
+package io.seoul.helper.repository.settle;
+
+import io.seoul.helper.domain.settle.SettleStatus;
+
+import java.time.LocalDateTime;
+import java.util.stream.Stream;
+
+public interface SettleRepositoryCustom {
+    Stream<SettleExportRow> streamSettleExportRows(SettleStatus status, Boolean walletPaid,
+                                                   LocalDateTime createdFrom, LocalDateTime createdTo,
+                                                   int fetchSize);
+}
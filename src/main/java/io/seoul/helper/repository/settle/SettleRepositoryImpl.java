@@ -0,0 +1,57 @@
+package io.seoul.helper.repository.settle;
+
+import io.seoul.helper.domain.settle.SettleStatus;
+import org.hibernate.jpa.QueryHints;
+
+import javax.persistence.EntityManager;
+import javax.persistence.PersistenceContext;
+import javax.persistence.TypedQuery;
+import java.time.LocalDateTime;
+import java.util.stream.Stream;
+
+public class SettleRepositoryImpl implements SettleRepositoryCustom {
+    @PersistenceContext
+    private EntityManager em;
+
+    @Override
+    public Stream<SettleExportRow> streamSettleExportRows(SettleStatus status, Boolean walletPaid,
+                                                          LocalDateTime createdFrom, LocalDateTime createdTo,
+                                                          int fetchSize) {
+        StringBuilder jpql = new StringBuilder("SELECT new io.seoul.helper.repository.settle.SettleExportRow(" +
+                "s.id, s.status, s.walletPaid, s.created, s.updated, a.nickname, " +
+                "r.id, r.score.fun, r.score.nice, r.score.time, r.score.interested, r.description, " +
+                "t.id, t.subject, u.id, u.email, u.nickname, u.fullname, m.role) " +
+                "FROM Settle s " +
+                "JOIN s.admin a " +
+                "JOIN s.review r " +
+                "JOIN r.team t " +
+                "JOIN r.user u " +
+                "LEFT JOIN Member m ON m.team = t AND m.user = u " +
+                "WHERE 1 = 1");
+
+        if (status != null)
+            jpql.append(" and s.status = :status");
+        if (Boolean.TRUE.equals(walletPaid))
+            jpql.append(" and s.walletPaid = :walletPaid");
+        else if (walletPaid != null)
+            jpql.append(" and (s.walletPaid = :walletPaid or s.walletPaid is null)");
+        if (createdFrom != null)
+            jpql.append(" and s.created >= :createdFrom");
+        if (createdTo != null)
+            jpql.append(" and s.created < :createdTo");
+        jpql.append(" ORDER BY s.id");
+
+        TypedQuery<SettleExportRow> query = em.createQuery(jpql.toString(), SettleExportRow.class)
+                .setHint(QueryHints.HINT_FETCH_SIZE, fetchSize)
+                .setHint(QueryHints.HINT_READONLY, true);
+        if (status != null)
+            query.setParameter("status", status);
+        if (walletPaid != null)
+            query.setParameter("walletPaid", walletPaid);
+        if (createdFrom != null)
+            query.setParameter("createdFrom", createdFrom);
+        if (createdTo != null)
+            query.setParameter("createdTo", createdTo);
+        return query.getResultStream();
+    }
+}
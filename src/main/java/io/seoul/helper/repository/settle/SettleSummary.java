@@ -0,0 +1,47 @@
+package io.seoul.helper.repository.settle;
+
+import io.seoul.helper.domain.member.MemberRole;
+import io.seoul.helper.domain.settle.SettleStatus;
+import lombok.Getter;
+
+@Getter
+public class SettleSummary {
+    private final Long settleId;
+    private final SettleStatus status;
+    private final Long adminId;
+    private final String adminNickname;
+    private final Long reviewId;
+    private final String description;
+    private final Integer fun;
+    private final Integer nice;
+    private final Integer time;
+    private final Integer interested;
+    private final Long userId;
+    private final String email;
+    private final String nickname;
+    private final String fullname;
+    private final String picture;
+    private final MemberRole memberRole;
+
+    public SettleSummary(Long settleId, SettleStatus status, Long adminId, String adminNickname,
+                         Long reviewId, String description, Integer fun, Integer nice, Integer time,
+                         Integer interested, Long userId, String email, String nickname, String fullname,
+                         String picture, MemberRole memberRole) {
+        this.settleId = settleId;
+        this.status = status;
+        this.adminId = adminId;
+        this.adminNickname = adminNickname;
+        this.reviewId = reviewId;
+        this.description = description;
+        this.fun = fun;
+        this.nice = nice;
+        this.time = time;
+        this.interested = interested;
+        this.userId = userId;
+        this.email = email;
+        this.nickname = nickname;
+        this.fullname = fullname;
+        this.picture = picture;
+        this.memberRole = memberRole;
+    }
+}
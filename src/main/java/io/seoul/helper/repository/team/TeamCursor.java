@@ -0,0 +1,94 @@
+package io.seoul.helper.repository.team;
+
+import io.seoul.helper.domain.team.Team;
+import lombok.Builder;
+import lombok.Getter;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+
+@Getter
+public class TeamCursor {
+    public static final String SORT_ID = "id";
+    public static final String SORT_START_TIME = "period.startTime";
+
+    private static final String DELIMITER = "|";
+
+    private final String sortKey;
+    private final boolean ascending;
+    private final LocalDateTime startTime;
+    private final Long id;
+
+    @Builder
+    public TeamCursor(String sortKey, boolean ascending, LocalDateTime startTime, Long id) {
+        this.sortKey = sortKey;
+        this.ascending = ascending;
+        this.startTime = startTime;
+        this.id = id;
+    }
+
+    public static TeamCursor of(String sort, String after) {
+        String sortKey = sort;
+        boolean ascending = false;
+        if (sort.contains(",")) {
+            String[] sortOption = sort.split(",");
+            sortKey = sortOption[0];
+            ascending = sortOption[1].equals("asc");
+        }
+        if (!sortKey.equals(SORT_ID) && !sortKey.equals(SORT_START_TIME))
+            throw new IllegalArgumentException("Unsupported sort for cursor : " + sortKey);
+        if (after == null || after.isEmpty())
+            return TeamCursor.builder()
+                    .sortKey(sortKey)
+                    .ascending(ascending)
+                    .build();
+
+        String[] token;
+        try {
+            token = new String(Base64.getUrlDecoder().decode(after), StandardCharsets.UTF_8)
+                    .split("\\" + DELIMITER, -1);
+        } catch (IllegalArgumentException e) {
+            throw new IllegalArgumentException("Invalid cursor");
+        }
+        if (token.length != 4 || !token[0].equals(sortKey) || Boolean.parseBoolean(token[1]) != ascending)
+            throw new IllegalArgumentException("Cursor does not match sort : " + sort);
+        LocalDateTime startTime;
+        Long id;
+        try {
+            startTime = token[2].isEmpty() ? null : LocalDateTime.parse(token[2]);
+            id = Long.valueOf(token[3]);
+        } catch (DateTimeParseException | NumberFormatException e) {
+            throw new IllegalArgumentException("Invalid cursor");
+        }
+        if (sortKey.equals(SORT_START_TIME) && startTime == null)
+            throw new IllegalArgumentException("Invalid cursor");
+        return TeamCursor.builder()
+                .sortKey(sortKey)
+                .ascending(ascending)
+                .startTime(startTime)
+                .id(id)
+                .build();
+    }
+
+    public boolean isFirst() {
+        return id == null;
+    }
+
+    public TeamCursor next(Team last) {
+        return TeamCursor.builder()
+                .sortKey(sortKey)
+                .ascending(ascending)
+                .startTime(last.getPeriod().getStartTime())
+                .id(last.getId())
+                .build();
+    }
+
+    public String encode() {
+        String token = sortKey + DELIMITER + ascending + DELIMITER +
+                (startTime == null ? "" : startTime.toString()) + DELIMITER + id;
+        return Base64.getUrlEncoder().withoutPadding()
+                .encodeToString(token.getBytes(StandardCharsets.UTF_8));
+    }
+}
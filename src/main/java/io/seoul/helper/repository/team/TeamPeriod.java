@@ -0,0 +1,18 @@
+package io.seoul.helper.repository.team;
+
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+
+@Getter
+public class TeamPeriod {
+    private final Long teamId;
+    private final LocalDateTime startTime;
+    private final LocalDateTime endTime;
+
+    public TeamPeriod(Long teamId, LocalDateTime startTime, LocalDateTime endTime) {
+        this.teamId = teamId;
+        this.startTime = startTime;
+        this.endTime = endTime;
+    }
+}
@@ -1,51 +1,138 @@
 package io.seoul.helper.repository.team;
 
+import io.seoul.helper.domain.member.MemberRole;
+import io.seoul.helper.domain.review.ReviewStatus;
 import io.seoul.helper.domain.team.Team;
 import io.seoul.helper.domain.team.TeamLocation;
 import io.seoul.helper.domain.team.TeamStatus;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.stereotype.Repository;
 
+import javax.persistence.QueryHint;
 import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Set;
 
 @Repository
-public interface TeamRepository extends JpaRepository<Team, Long> {
-    @Query("SELECT t FROM Team t " +
+public interface TeamRepository extends JpaRepository<Team, Long>, TeamRepositoryCustom {
+    @Query("SELECT t.id FROM Team t " +
             "WHERE (t.status IN (:statusList)) and " +
             "(:location is null or t.location = :location) and " +
             "(:startTimePrevious is null or t.period.startTime > :startTimePrevious) and " +
             "(:endTimePrevious is null or t.period.endTime > :endTimePrevious)")
-    Page<Team> findTeamsByQueryParameters(LocalDateTime startTimePrevious, LocalDateTime endTimePrevious,
-                                          List<TeamStatus> statusList, TeamLocation location, Pageable pageable);
+    Page<Long> findTeamIdsByQueryParameters(LocalDateTime startTimePrevious, LocalDateTime endTimePrevious,
+                                            List<TeamStatus> statusList, TeamLocation location, Pageable pageable);
 
-    @Query("SELECT DISTINCT t FROM Team t " +
+    @Query("SELECT t.id FROM Team t " +
             "WHERE (t.status in (:statusList)) and " +
             "(:location is null or t.location = :location) and " +
             "(:startTimePrevious is null or t.period.startTime > :startTimePrevious) and " +
             "(:endTimePrevious is null or t.period.endTime > :endTimePrevious) and " +
-            "t.id IN :teamId")
-    Page<Team> findTeamsByTeamIdIn(LocalDateTime startTimePrevious, LocalDateTime endTimePrevious,
-                                   List<TeamStatus> statusList, TeamLocation location, List<Long> teamId,
-                                   Pageable pageable);
+            "EXISTS (SELECT m.id FROM Member m WHERE m.team = t and " +
+            "m.user.nickname = :nickname and " +
+            "(:isCreator = false or m.creator = true) and " +
+            "(:memberRole is null or m.role = :memberRole))")
+    Page<Long> findTeamIdsByMemberNickname(LocalDateTime startTimePrevious, LocalDateTime endTimePrevious,
+                                           List<TeamStatus> statusList, TeamLocation location,
+                                           String nickname, boolean isCreator, MemberRole memberRole,
+                                           Pageable pageable);
 
-    @Query("SELECT DISTINCT t FROM Team t " +
+    @Query("SELECT t.id FROM Team t " +
             "WHERE (t.status in (:statusList)) and " +
             "(:location is null or t.location = :location) and " +
             "(:startTimePrevious is null or t.period.startTime > :startTimePrevious) and " +
             "(:endTimePrevious is null or t.period.endTime > :endTimePrevious) and " +
-            "t.id NOT IN :teamId")
-    Page<Team> findTeamsByTeamIdNotIn(LocalDateTime startTimePrevious, LocalDateTime endTimePrevious,
-                                      List<TeamStatus> statusList, TeamLocation location, List<Long> teamId, Pageable pageable);
+            "NOT EXISTS (SELECT m.id FROM Member m WHERE m.team = t and " +
+            "m.user.nickname = :nickname and " +
+            "(:isCreator = false or m.creator = true) and " +
+            "(:memberRole is null or m.role = :memberRole))")
+    Page<Long> findTeamIdsByNotMemberNickname(LocalDateTime startTimePrevious, LocalDateTime endTimePrevious,
+                                              List<TeamStatus> statusList, TeamLocation location,
+                                              String nickname, boolean isCreator, MemberRole memberRole,
+                                              Pageable pageable);
 
+    @QueryHints(@QueryHint(name = "hibernate.query.passDistinctThrough", value = "false"))
     @Query("SELECT DISTINCT t FROM Team t " +
-            "WHERE (t.status = :status) and " +
-            "(:currentTime is null or t.period.endTime <= :currentTime)")
-    List<Team> findTeamsByStatusNotAndEndTimeLessThan(TeamStatus status, LocalDateTime currentTime);
+            "LEFT JOIN FETCH t.project " +
+            "LEFT JOIN FETCH t.members m " +
+            "LEFT JOIN FETCH m.user " +
+            "WHERE t.id IN :teamIds")
+    List<Team> findTeamsWithMembersByIdIn(Collection<Long> teamIds);
+
+    @Query("SELECT new io.seoul.helper.repository.team.TeamVersion(" +
+            "count(distinct t.id), count(m.id), max(t.updated), max(m.updated)) " +
+            "FROM Team t " +
+            "LEFT JOIN t.members m " +
+            "WHERE t.id IN :teamIds")
+    TeamVersion findTeamVersionByIdIn(Collection<Long> teamIds);
+
+    @Query("SELECT max(t.updated) FROM Team t")
+    LocalDateTime findTeamUpdatedMax();
+
+    @Query("SELECT t.id FROM Team t WHERE t.updated >= :updated")
+    List<Long> findTeamIdsByUpdatedFrom(LocalDateTime updated);
+
+    @Modifying(flushAutomatically = true)
+    @Query("UPDATE Team t SET t.updated = :currentTime WHERE t.id = :teamId")
+    int touchTeam(Long teamId, LocalDateTime currentTime);
+
+    @Query("SELECT t.id FROM Team t " +
+            "WHERE t.status = :status and t.period.endTime <= :currentTime and t.id > :lastId " +
+            "ORDER BY t.id")
+    List<Long> findTeamIdsByStatusAndEndTimeBefore(TeamStatus status, LocalDateTime currentTime,
+                                                   Long lastId, Pageable pageable);
+
+    @Query("SELECT new io.seoul.helper.repository.team.TeamPeriod(t.id, t.period.startTime, t.period.endTime) " +
+            "FROM Team t " +
+            "WHERE t.status = :status and t.period.endTime <= :endTime")
+    List<TeamPeriod> findTeamPeriodsByStatusAndEndTimeBefore(TeamStatus status, LocalDateTime endTime);
+
+    @Modifying
+    @Query("UPDATE Team t SET t.status = :newStatus, t.updated = :currentTime " +
+            "WHERE t.id between :fromId and :toId and " +
+            "t.status = :status and t.period.endTime <= :currentTime")
+    int updateTeamStatusByIdRange(TeamStatus status, TeamStatus newStatus, LocalDateTime currentTime,
+                                  Long fromId, Long toId);
+
+    @Query("SELECT m.team.id FROM Member m " +
+            "LEFT JOIN Review r ON r.team = m.team and r.user = m.user and r.status <> :waitStatus " +
+            "WHERE m.team.id IN (:teamIds) and m.team.status = :status " +
+            "GROUP BY m.team.id " +
+            "HAVING sum(CASE WHEN m.participation IS NULL THEN 1 " +
+            "WHEN m.participation = true and r.id IS NULL THEN 1 ELSE 0 END) = 0")
+    List<Long> findTeamIdsWithoutWaitingReview(Collection<Long> teamIds, TeamStatus status, ReviewStatus waitStatus);
+
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("UPDATE Team t SET t.status = :newStatus, t.updated = :currentTime " +
+            "WHERE t.id IN (:teamIds) and t.status = :status")
+    int updateTeamStatusByIdIn(Collection<Long> teamIds, TeamStatus status, TeamStatus newStatus,
+                               LocalDateTime currentTime);
+
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("UPDATE Team t SET t.pendingReviewCount = t.pendingReviewCount - :count " +
+            "WHERE t.id = :teamId and t.status = :status and t.pendingReviewCount >= :count")
+    int decrementPendingReviewCount(Long teamId, TeamStatus status, int count);
+
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("UPDATE Team t SET t.status = :newStatus, t.updated = :currentTime " +
+            "WHERE t.id IN (:teamIds) and t.status = :status and t.pendingReviewCount = 0")
+    int updateTeamStatusByIdInAndNoPendingReview(Collection<Long> teamIds, TeamStatus status, TeamStatus newStatus,
+                                                 LocalDateTime currentTime);
+
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("UPDATE Team t SET t.pendingReviewCount = " +
+            "(SELECT count(r) FROM Review r WHERE r.team = t and r.status = :waitStatus) " +
+            "WHERE t.status = :status")
+    int repairPendingReviewCount(TeamStatus status, ReviewStatus waitStatus);
+
+    @Query("SELECT t.id FROM Team t WHERE t.status = :status and t.pendingReviewCount = 0")
+    List<Long> findTeamIdsByStatusAndNoPendingReview(TeamStatus status);
 
 
     @Query("SELECT count(t) from Team t " +
@@ -68,13 +155,18 @@ public interface TeamRepository extends JpaRepository<Team, Long> {
             "(t.status IN :statusList)")
     Integer findTeamCountByEndTimeRangeAndStatus(LocalDateTime start, LocalDateTime end, Set<TeamStatus> statusList);
 
-    @Query("SELECT DISTINCT t FROM Team t " +
-            "WHERE (t.id IN (SELECT m.team.id FROM Member m WHERE m.user.id = :userId)) and " +
+    @Query("SELECT t.id FROM Team t " +
+            "WHERE EXISTS (SELECT m.id FROM Member m WHERE m.team = t and m.user.id = :userId) and " +
             "(t.status NOT IN (:statusList)) and " +
-            "((t.period.startTime <= :startTime and t.period.endTime <= :endTime and t.period.endTime > :startTime) or" +
-            "(t.period.startTime >= :startTime and t.period.endTime >= :endTime and t.period.startTime < :endTime) or" +
-            "(t.period.startTime <= :startTime and t.period.endTime >= :endTime) or " +
-            "(t.period.startTime >= :startTime and t.period.endTime <= :endTime))")
-    List<Team> findTeamsByUserAndDuplicateDateTime(List<TeamStatus> statusList, Long userId,
-                                                   LocalDateTime startTime, LocalDateTime endTime);
+            "t.period.startTime < :endTime and t.period.endTime > :startTime " +
+            "ORDER BY t.id")
+    List<Long> findTeamIdsByUserAndDuplicateDateTime(List<TeamStatus> statusList, Long userId,
+                                                     LocalDateTime startTime, LocalDateTime endTime,
+                                                     Pageable pageable);
+
+    @Query("SELECT new io.seoul.helper.repository.team.TeamPeriod(t.id, t.period.startTime, t.period.endTime) " +
+            "FROM Member m JOIN m.team t " +
+            "WHERE m.user.id = :userId and (t.status NOT IN (:statusList)) " +
+            "ORDER BY t.period.startTime, t.id")
+    List<TeamPeriod> findTeamPeriodsByUser(List<TeamStatus> statusList, Long userId);
 }
@@ -0,0 +1,16 @@
+package io.seoul.helper.repository.team;
+
+import io.seoul.helper.domain.member.MemberRole;
+import io.seoul.helper.domain.team.TeamLocation;
+import io.seoul.helper.domain.team.TeamStatus;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+public interface TeamRepositoryCustom {
+    List<Long> findTeamIdsBySeek(LocalDateTime startTimePrevious, LocalDateTime endTimePrevious,
+                                 List<TeamStatus> statusList, TeamLocation location,
+                                 String nickname, String excludeNickname,
+                                 boolean isCreator, MemberRole memberRole,
+                                 TeamCursor cursor, int limit);
+}
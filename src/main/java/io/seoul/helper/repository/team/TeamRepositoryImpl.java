@@ -0,0 +1,80 @@
+package io.seoul.helper.repository.team;
+
+import io.seoul.helper.domain.member.MemberRole;
+import io.seoul.helper.domain.team.TeamLocation;
+import io.seoul.helper.domain.team.TeamStatus;
+
+import javax.persistence.EntityManager;
+import javax.persistence.PersistenceContext;
+import javax.persistence.TypedQuery;
+import java.time.LocalDateTime;
+import java.util.List;
+
+public class TeamRepositoryImpl implements TeamRepositoryCustom {
+    @PersistenceContext
+    private EntityManager em;
+
+    @Override
+    public List<Long> findTeamIdsBySeek(LocalDateTime startTimePrevious, LocalDateTime endTimePrevious,
+                                        List<TeamStatus> statusList, TeamLocation location,
+                                        String nickname, String excludeNickname,
+                                        boolean isCreator, MemberRole memberRole,
+                                        TeamCursor cursor, int limit) {
+        String op = cursor.isAscending() ? ">" : "<";
+        String direction = cursor.isAscending() ? "ASC" : "DESC";
+        boolean byStartTime = cursor.getSortKey().equals(TeamCursor.SORT_START_TIME);
+        StringBuilder jpql = new StringBuilder("SELECT t.id FROM Team t WHERE t.status IN (:statusList)");
+
+        if (location != null)
+            jpql.append(" and t.location = :location");
+        if (startTimePrevious != null)
+            jpql.append(" and t.period.startTime > :startTimePrevious");
+        if (endTimePrevious != null)
+            jpql.append(" and t.period.endTime > :endTimePrevious");
+        if (nickname != null)
+            jpql.append(" and EXISTS (").append(memberSubquery(isCreator, memberRole)).append(")");
+        else if (excludeNickname != null)
+            jpql.append(" and NOT EXISTS (").append(memberSubquery(isCreator, memberRole)).append(")");
+        if (!cursor.isFirst()) {
+            if (byStartTime)
+                jpql.append(" and (t.period.startTime ").append(op).append(" :cursorStartTime or ")
+                        .append("(t.period.startTime = :cursorStartTime and t.id ").append(op).append(" :cursorId))");
+            else
+                jpql.append(" and t.id ").append(op).append(" :cursorId");
+        }
+        if (byStartTime)
+            jpql.append(" ORDER BY t.period.startTime ").append(direction).append(", t.id ").append(direction);
+        else
+            jpql.append(" ORDER BY t.id ").append(direction);
+
+        TypedQuery<Long> query = em.createQuery(jpql.toString(), Long.class)
+                .setParameter("statusList", statusList)
+                .setMaxResults(limit + 1);
+        if (location != null)
+            query.setParameter("location", location);
+        if (startTimePrevious != null)
+            query.setParameter("startTimePrevious", startTimePrevious);
+        if (endTimePrevious != null)
+            query.setParameter("endTimePrevious", endTimePrevious);
+        if (nickname != null || excludeNickname != null) {
+            query.setParameter("nickname", nickname != null ? nickname : excludeNickname);
+            if (memberRole != null)
+                query.setParameter("memberRole", memberRole);
+        }
+        if (!cursor.isFirst()) {
+            if (byStartTime)
+                query.setParameter("cursorStartTime", cursor.getStartTime());
+            query.setParameter("cursorId", cursor.getId());
+        }
+        return query.getResultList();
+    }
+
+    private String memberSubquery(boolean isCreator, MemberRole memberRole) {
+        StringBuilder subquery = new StringBuilder("SELECT m.id FROM Member m WHERE m.team = t and m.user.nickname = :nickname");
+        if (isCreator)
+            subquery.append(" and m.creator = true");
+        if (memberRole != null)
+            subquery.append(" and m.role = :memberRole");
+        return subquery.toString();
+    }
+}
@@ -0,0 +1,28 @@
+package io.seoul.helper.repository.team;
+
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+
+@Getter
+public class TeamVersion {
+    private final Long teamCount;
+    private final Long memberCount;
+    private final LocalDateTime teamUpdated;
+    private final LocalDateTime memberUpdated;
+
+    public TeamVersion(Long teamCount, Long memberCount, LocalDateTime teamUpdated, LocalDateTime memberUpdated) {
+        this.teamCount = teamCount;
+        this.memberCount = memberCount;
+        this.teamUpdated = teamUpdated;
+        this.memberUpdated = memberUpdated;
+    }
+
+    public LocalDateTime getLastModified() {
+        if (teamUpdated == null)
+            return memberUpdated;
+        if (memberUpdated == null)
+            return teamUpdated;
+        return teamUpdated.isAfter(memberUpdated) ? teamUpdated : memberUpdated;
+    }
+}
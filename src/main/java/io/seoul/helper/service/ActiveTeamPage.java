@@ -0,0 +1,21 @@
+package io.seoul.helper.service;
+
+import io.seoul.helper.controller.dto.VersionDto;
+import io.seoul.helper.controller.team.dto.TeamResponseDto;
+import lombok.Getter;
+import org.springframework.data.domain.Page;
+
+/**
+ * A page answered by ActiveTeamReadModel together with the version of the snapshot it was cut
+ * from, so conditional requests validate against the data actually served.
+ */
+@Getter
+public class ActiveTeamPage {
+    private final Page<TeamResponseDto> teams;
+    private final VersionDto version;
+
+    public ActiveTeamPage(Page<TeamResponseDto> teams, VersionDto version) {
+        this.teams = teams;
+        this.version = version;
+    }
+}
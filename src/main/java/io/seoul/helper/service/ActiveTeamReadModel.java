@@ -0,0 +1,281 @@
+package io.seoul.helper.service;
+
+import io.seoul.helper.controller.dto.VersionDto;
+import io.seoul.helper.controller.member.dto.MemberResponseDto;
+import io.seoul.helper.controller.team.dto.TeamListRequestDto;
+import io.seoul.helper.controller.team.dto.TeamResponseDto;
+import io.seoul.helper.domain.team.TeamLocation;
+import io.seoul.helper.domain.team.TeamStatus;
+import io.seoul.helper.repository.team.TeamCursor;
+import io.seoul.helper.repository.team.TeamRepository;
+import io.seoul.helper.service.event.TeamChangedEvent;
+import io.seoul.helper.service.event.TeamsChangedEvent;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.annotation.PreDestroy;
+import java.time.LocalDateTime;
+import java.util.*;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+@Slf4j
+@Service
+public class ActiveTeamReadModel {
+    private static final Set<TeamStatus> ACTIVE_STATUS = Collections.unmodifiableSet(
+            EnumSet.of(TeamStatus.WAITING, TeamStatus.READY, TeamStatus.FULL));
+    private static final int LOAD_CHUNK_SIZE = 500;
+    private static final Comparator<TeamResponseDto> START_TIME_ORDER = Comparator
+            .comparing(TeamResponseDto::getStartTime)
+            .thenComparing(TeamResponseDto::getTeamId);
+
+    private final TeamRepository teamRepo;
+    private final TransactionTemplate readOnlyTx;
+    private final boolean enabled;
+    private final long stalenessCheckNanos;
+    private final long fullReloadMinutes;
+    private final String instanceId = UUID.randomUUID().toString();
+    private final AtomicLong generation = new AtomicLong();
+    private final AtomicBoolean checking = new AtomicBoolean();
+    private final ScheduledExecutorService reloader = Executors.newSingleThreadScheduledExecutor(
+            new CustomizableThreadFactory("read-model-reload-"));
+
+    private volatile Snapshot snapshot;
+    private volatile long lastCheckedNanos = System.nanoTime();
+
+    public ActiveTeamReadModel(TeamRepository teamRepo, PlatformTransactionManager transactionManager,
+                               @Value("${helper.read-model.enabled:true}") boolean enabled,
+                               @Value("${helper.read-model.staleness-check-ms:1000}") long stalenessCheckMillis,
+                               @Value("${helper.read-model.full-reload-minutes:10}") long fullReloadMinutes) {
+        this.teamRepo = teamRepo;
+        this.readOnlyTx = new TransactionTemplate(transactionManager);
+        this.readOnlyTx.setReadOnly(true);
+        this.readOnlyTx.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        this.enabled = enabled;
+        this.stalenessCheckNanos = TimeUnit.MILLISECONDS.toNanos(stalenessCheckMillis);
+        this.fullReloadMinutes = fullReloadMinutes;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void start() {
+        if (!enabled)
+            return;
+        load();
+        reloader.scheduleWithFixedDelay(() -> {
+            try {
+                load();
+            } catch (Exception e) {
+                log.error("failed to reload active team read model : {}", e.getMessage());
+            }
+        }, fullReloadMinutes, fullReloadMinutes, TimeUnit.MINUTES);
+    }
+
+    /**
+     * Builds a new snapshot without holding the monitor, so readers keep using the current one
+     * meanwhile. Changes committed while it loads are newer than its watermark and are picked up
+     * by the next staleness check.
+     */
+    public void load() {
+        if (!enabled)
+            return;
+        LocalDateTime loadedAt = LocalDateTime.now();
+        LocalDateTime watermark = readOnlyTx.execute(status -> teamRepo.findTeamUpdatedMax());
+        List<Long> teamIds = teamRepo.findTeamIdsByQueryParameters(
+                loadedAt, null, new ArrayList<>(ACTIVE_STATUS), null, Pageable.unpaged()).getContent();
+        Map<Long, TeamResponseDto> teams = new HashMap<>();
+        for (int i = 0; i < teamIds.size(); i += LOAD_CHUNK_SIZE) {
+            fetch(teamIds.subList(i, Math.min(i + LOAD_CHUNK_SIZE, teamIds.size())))
+                    .forEach(t -> teams.put(t.getTeamId(), t));
+        }
+        synchronized (this) {
+            snapshot = new Snapshot(generation.incrementAndGet(), loadedAt, watermark, teams);
+        }
+        log.info("Active team read model loaded : {} teams", teams.size());
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onTeamChanged(TeamChangedEvent event) {
+        refresh(Collections.singletonList(event.getTeamId()));
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onTeamsChanged(TeamsChangedEvent event) {
+        refresh(event.getTeamIds());
+    }
+
+    public synchronized void refresh(Collection<Long> teamIds) {
+        if (snapshot == null || teamIds.isEmpty())
+            return;
+        refresh(teamIds, snapshot.watermark);
+    }
+
+    /**
+     * AFTER_COMMIT events only cover writes made on this node. Before answering, at most once per
+     * staleness-check-ms, compare max(team.updated) with the snapshot and refresh the teams changed
+     * since then, so writes from other nodes show up. Member joins and leaves touch team.updated
+     * for this. Only one reader runs the check; the others answer from the current snapshot. The
+     * background reload every full-reload-minutes bounds what this misses, such as deleted rows
+     * or a node whose clock lags behind.
+     */
+    private void catchUp() {
+        if (System.nanoTime() - lastCheckedNanos < stalenessCheckNanos || !checking.compareAndSet(false, true))
+            return;
+        try {
+            lastCheckedNanos = System.nanoTime();
+            Snapshot current = snapshot;
+            LocalDateTime latest = readOnlyTx.execute(status -> teamRepo.findTeamUpdatedMax());
+            if (latest == null || (current.watermark != null && !latest.isAfter(current.watermark)))
+                return;
+            if (current.watermark == null) {
+                reloader.execute(this::load);
+                return;
+            }
+            List<Long> teamIds = readOnlyTx.execute(status -> teamRepo.findTeamIdsByUpdatedFrom(current.watermark));
+            if (!teamIds.isEmpty())
+                refresh(teamIds, latest);
+        } finally {
+            checking.set(false);
+        }
+    }
+
+    private synchronized void refresh(Collection<Long> teamIds, LocalDateTime watermark) {
+        if (snapshot.watermark != null && snapshot.watermark.isAfter(watermark))
+            watermark = snapshot.watermark;
+        Map<Long, TeamResponseDto> teams = new HashMap<>(snapshot.byId);
+        teamIds.forEach(teams::remove);
+        fetch(teamIds).stream()
+                .filter(t -> ACTIVE_STATUS.contains(t.getStatus()))
+                .forEach(t -> teams.put(t.getTeamId(), t));
+        LocalDateTime now = LocalDateTime.now();
+        teams.values().removeIf(t -> !t.getStartTime().isAfter(now));
+        snapshot = new Snapshot(generation.incrementAndGet(), snapshot.loadedAt, watermark, teams);
+    }
+
+    /**
+     * The version names the snapshot the page was cut from. It changes with every refresh on this
+     * node and is not shared with other nodes, which only costs a full response after a switch.
+     */
+    public Optional<ActiveTeamPage> findTeams(TeamListRequestDto requestDto) {
+        if (snapshot == null || !snapshot.canAnswer(requestDto))
+            return Optional.empty();
+        catchUp();
+        Snapshot current = snapshot;
+        if (!current.canAnswer(requestDto))
+            return Optional.empty();
+
+        TeamCursor order = TeamCursor.of(requestDto.getSort(), null);
+        Comparator<TeamResponseDto> comparator = order.getSortKey().equals(TeamCursor.SORT_ID)
+                ? Comparator.comparing(TeamResponseDto::getTeamId)
+                : START_TIME_ORDER;
+        if (!order.isAscending())
+            comparator = comparator.reversed();
+
+        List<TeamResponseDto> teams = current.find(requestDto)
+                .sorted(comparator)
+                .collect(Collectors.toList());
+        Pageable pageable = PageRequest.of(requestDto.getOffset(), requestDto.getLimit());
+        int from = (int) Math.min(pageable.getOffset(), teams.size());
+        int to = Math.min(from + requestDto.getLimit(), teams.size());
+        List<TeamResponseDto> content = teams.subList(from, to);
+        VersionDto version = VersionDto.of(null, instanceId, current.generation,
+                content.stream().map(TeamResponseDto::getTeamId).collect(Collectors.toList()), teams.size());
+        return Optional.of(new ActiveTeamPage(new PageImpl<>(content, pageable, teams.size()), version));
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        reloader.shutdownNow();
+    }
+
+    private List<TeamResponseDto> fetch(Collection<Long> teamIds) {
+        return readOnlyTx.execute(status -> teamRepo.findTeamsWithMembersByIdIn(teamIds).stream()
+                .map(TeamResponseDto::new)
+                .collect(Collectors.toList()));
+    }
+
+    private static class Snapshot {
+        private final long generation;
+        private final LocalDateTime loadedAt;
+        private final LocalDateTime watermark;
+        private final Map<Long, TeamResponseDto> byId;
+        private final Map<TeamStatus, List<TeamResponseDto>> byStatus = new EnumMap<>(TeamStatus.class);
+        private final Map<TeamLocation, Set<Long>> byLocation = new EnumMap<>(TeamLocation.class);
+
+        private Snapshot(long generation, LocalDateTime loadedAt, LocalDateTime watermark,
+                         Map<Long, TeamResponseDto> teams) {
+            this.generation = generation;
+            this.loadedAt = loadedAt;
+            this.watermark = watermark;
+            this.byId = Collections.unmodifiableMap(teams);
+            teams.values().forEach(t -> {
+                byStatus.computeIfAbsent(t.getStatus(), o -> new ArrayList<>()).add(t);
+                if (t.getLocation() != null)
+                    byLocation.computeIfAbsent(t.getLocation(), o -> new HashSet<>()).add(t.getTeamId());
+            });
+            byStatus.values().forEach(o -> o.sort(START_TIME_ORDER));
+        }
+
+        private boolean canAnswer(TeamListRequestDto requestDto) {
+            if (requestDto.getAfter() != null || requestDto.getStatusList() == null || requestDto.getStatusList().isEmpty())
+                return false;
+            if (!ACTIVE_STATUS.containsAll(requestDto.getStatusList()))
+                return false;
+            if (requestDto.getStartTimePrevious() == null || requestDto.getStartTimePrevious().isBefore(loadedAt))
+                return false;
+            if (requestDto.getSort() == null)
+                return false;
+            String sortKey = requestDto.getSort().split(",")[0];
+            return sortKey.equals(TeamCursor.SORT_ID) || sortKey.equals(TeamCursor.SORT_START_TIME);
+        }
+
+        private Stream<TeamResponseDto> find(TeamListRequestDto requestDto) {
+            Set<Long> location = requestDto.getLocation() == null ? null
+                    : byLocation.getOrDefault(requestDto.getLocation(), Collections.emptySet());
+            return requestDto.getStatusList().stream()
+                    .distinct()
+                    .map(byStatus::get)
+                    .filter(Objects::nonNull)
+                    .flatMap(List::stream)
+                    .filter(t -> t.getStartTime().isAfter(requestDto.getStartTimePrevious()))
+                    .filter(t -> location == null || location.contains(t.getTeamId()))
+                    .filter(t -> requestDto.getEndTimePrevious() == null
+                            || t.getEndTime().isAfter(requestDto.getEndTimePrevious()))
+                    .filter(t -> requestDto.getNickname() == null
+                            || hasMember(t, requestDto.getNickname(), requestDto))
+                    .filter(t -> requestDto.getExcludeNickname() == null
+                            || !hasMember(t, requestDto.getExcludeNickname(), requestDto));
+        }
+
+        private boolean hasMember(TeamResponseDto team, String nickname, TeamListRequestDto requestDto) {
+            for (MemberResponseDto member : team.getMembers()) {
+                if (!member.getNickname().equals(nickname))
+                    continue;
+                if (requestDto.isCreateor() && !member.getCreator())
+                    continue;
+                if (requestDto.getMemberRole() != null
+                        && !requestDto.getMemberRole().getName().equals(member.getMemberRole()))
+                    continue;
+                return true;
+            }
+            return false;
+        }
+    }
+}
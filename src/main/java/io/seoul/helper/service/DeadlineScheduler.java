@@ -0,0 +1,190 @@
+package io.seoul.helper.service;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.seoul.helper.domain.review.ReviewStatus;
+import io.seoul.helper.domain.team.TeamStatus;
+import io.seoul.helper.repository.review.ReviewRepository;
+import io.seoul.helper.repository.team.TeamRepository;
+import io.seoul.helper.service.batch.BatchLeaseService;
+import io.seoul.helper.service.batch.ReviewTimeoutBatchJob;
+import io.seoul.helper.service.event.TeamChangedEvent;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.annotation.PreDestroy;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.Collections;
+import java.util.Map;
+import java.util.concurrent.*;
+
+@Slf4j
+@Service
+public class DeadlineScheduler {
+    private final TeamRepository teamRepo;
+    private final ReviewRepository reviewRepo;
+    private final TeamBatchService teamBatchService;
+    private final ReviewService reviewService;
+    private final BatchLeaseService batchLeaseService;
+    private final TransactionTemplate readOnlyTx;
+    private final MeterRegistry meterRegistry;
+    private final boolean enabled;
+    private final long sweepMinutes;
+
+    private final DelayQueue<Deadline> queue = new DelayQueue<>();
+    private final Map<String, Long> scheduled = new ConcurrentHashMap<>();
+    private final ExecutorService worker = Executors.newSingleThreadExecutor(
+            new CustomizableThreadFactory("deadline-worker-"));
+    private final ScheduledExecutorService sweeper = Executors.newSingleThreadScheduledExecutor(
+            new CustomizableThreadFactory("deadline-sweep-"));
+    private volatile LocalDateTime horizon;
+
+    public DeadlineScheduler(TeamRepository teamRepo, ReviewRepository reviewRepo,
+                             TeamBatchService teamBatchService, ReviewService reviewService,
+                             BatchLeaseService batchLeaseService,
+                             PlatformTransactionManager transactionManager, MeterRegistry meterRegistry,
+                             @Value("${helper.deadline.enabled:true}") boolean enabled,
+                             @Value("${helper.deadline.sweep-minutes:30}") long sweepMinutes) {
+        this.teamRepo = teamRepo;
+        this.reviewRepo = reviewRepo;
+        this.teamBatchService = teamBatchService;
+        this.reviewService = reviewService;
+        this.batchLeaseService = batchLeaseService;
+        this.readOnlyTx = new TransactionTemplate(transactionManager);
+        this.readOnlyTx.setReadOnly(true);
+        this.readOnlyTx.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        this.meterRegistry = meterRegistry;
+        this.enabled = enabled;
+        this.sweepMinutes = sweepMinutes;
+        meterRegistry.gaugeCollectionSize("deadline.scheduled", Collections.emptyList(), queue);
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void start() {
+        if (!enabled)
+            return;
+        worker.execute(this::run);
+        sweeper.scheduleAtFixedRate(this::sweep, 0, sweepMinutes, TimeUnit.MINUTES);
+    }
+
+    public void sweep() {
+        try {
+            LocalDateTime now = LocalDateTime.now();
+            LocalDateTime nextHorizon = now.plusMinutes(sweepMinutes * 2);
+            batchLeaseService.runWithLease(TeamBatchService.TIMEOUT_LEASE, () -> teamBatchService.timeoutTeams(now));
+            batchLeaseService.runWithLease(ReviewTimeoutBatchJob.NAME, () -> reviewService.timeoutReviews(now));
+            horizon = nextHorizon;
+
+            readOnlyTx.execute(status -> {
+                teamRepo.findTeamPeriodsByStatusAndEndTimeBefore(TeamStatus.WAITING, nextHorizon)
+                        .forEach(t -> schedule(Kind.TEAM, t.getTeamId(), t.getEndTime()));
+                reviewRepo.findReviewExpiriesByStatusAndCreatedBefore(ReviewStatus.WAIT,
+                        nextHorizon.minusDays(ReviewService.REVIEW_TIMEOUT_DAYS))
+                        .forEach(r -> schedule(Kind.REVIEW, r.getReviewId(),
+                                r.getCreated().plusDays(ReviewService.REVIEW_TIMEOUT_DAYS)));
+                return null;
+            });
+            log.info("Deadline sweep : {} deadlines until {}", queue.size(), nextHorizon);
+        } catch (Exception e) {
+            log.error("failed to sweep deadlines : {}", e.getMessage());
+        }
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onTeamChanged(TeamChangedEvent event) {
+        LocalDateTime current = horizon;
+        if (current == null)
+            return;
+        readOnlyTx.execute(status -> {
+            teamRepo.findById(event.getTeamId())
+                    .filter(t -> t.getStatus() == TeamStatus.WAITING)
+                    .filter(t -> !t.getPeriod().getEndTime().isAfter(current))
+                    .ifPresent(t -> schedule(Kind.TEAM, t.getId(), t.getPeriod().getEndTime()));
+            return null;
+        });
+    }
+
+    private void schedule(Kind kind, Long id, LocalDateTime fireAt) {
+        long fireAtMillis = fireAt.atZone(ZoneId.systemDefault()).toInstant().toEpochMilli();
+        String key = kind + "#" + id;
+        Long previous = scheduled.put(key, fireAtMillis);
+        if (previous == null || previous != fireAtMillis)
+            queue.add(new Deadline(kind, id, fireAtMillis));
+    }
+
+    boolean isScheduled(Long teamId) {
+        return scheduled.containsKey(Kind.TEAM + "#" + teamId);
+    }
+
+    /**
+     * A fire that races a status change or a moved end time is a no-op: the timeout only updates
+     * rows that are still WAITING and already past their end time, and the moved deadline was
+     * queued again by onTeamChanged.
+     */
+    private void run() {
+        while (!Thread.currentThread().isInterrupted()) {
+            Deadline deadline;
+            try {
+                deadline = queue.take();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            }
+            scheduled.remove(deadline.key(), deadline.fireAt);
+            try {
+                boolean fired = deadline.kind == Kind.TEAM
+                        ? teamBatchService.timeoutTeam(deadline.id, LocalDateTime.now())
+                        : reviewService.timeoutReview(deadline.id, LocalDateTime.now());
+                if (fired)
+                    meterRegistry.counter("deadline.fired", "kind", deadline.kind.name()).increment();
+            } catch (Exception e) {
+                log.error("failed to fire deadline {} : {}", deadline.key(), e.getMessage());
+            }
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        sweeper.shutdownNow();
+        worker.shutdownNow();
+    }
+
+    private enum Kind {
+        TEAM, REVIEW
+    }
+
+    private static class Deadline implements Delayed {
+        private final Kind kind;
+        private final Long id;
+        private final long fireAt;
+
+        private Deadline(Kind kind, Long id, long fireAt) {
+            this.kind = kind;
+            this.id = id;
+            this.fireAt = fireAt;
+        }
+
+        private String key() {
+            return kind + "#" + id;
+        }
+
+        @Override
+        public long getDelay(TimeUnit unit) {
+            return unit.convert(fireAt - System.currentTimeMillis(), TimeUnit.MILLISECONDS);
+        }
+
+        @Override
+        public int compareTo(Delayed other) {
+            return Long.compare(fireAt, ((Deadline) other).fireAt);
+        }
+    }
+}
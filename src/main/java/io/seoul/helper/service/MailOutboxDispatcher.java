@@ -0,0 +1,201 @@
+package io.seoul.helper.service;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.seoul.helper.domain.mail.MailOutbox;
+import io.seoul.helper.domain.mail.MailOutboxStatus;
+import io.seoul.helper.repository.mail.MailOutboxRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.mail.SimpleMailMessage;
+import org.springframework.mail.javamail.JavaMailSender;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.annotation.PreDestroy;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Delivers mails from the outbox. A mail is claimed by pushing its next_attempt_at past the
+ * claim timeout, so several nodes can poll the same table and a mail claimed by a node that
+ * died becomes due again. Failed mails back off exponentially until max-attempts, then stay
+ * in the table as DEAD.
+ */
+@Slf4j
+@Service
+public class MailOutboxDispatcher {
+    private final MailOutboxRepository outboxRepo;
+    private final JavaMailSender mailSender;
+    private final TransactionTemplate tx;
+    private final MeterRegistry meterRegistry;
+    private final Timer latency;
+    private final boolean enabled;
+    private final long pollMs;
+    private final int batchSize;
+    private final int maxAttempts;
+    private final Duration claimTimeout;
+    private final Duration initialBackoff;
+    private final Duration maxBackoff;
+    private final long permitIntervalNanos;
+
+    private final ThreadPoolExecutor executor;
+    private final ScheduledExecutorService poller = Executors.newSingleThreadScheduledExecutor(
+            new CustomizableThreadFactory("mail-outbox-poll-"));
+    private final AtomicLong pending = new AtomicLong();
+    private final AtomicLong dead = new AtomicLong();
+    private long nextPermitNanos = System.nanoTime();
+
+    public MailOutboxDispatcher(MailOutboxRepository outboxRepo, JavaMailSender mailSender,
+                                PlatformTransactionManager transactionManager, MeterRegistry meterRegistry,
+                                @Value("${helper.mail-outbox.enabled:true}") boolean enabled,
+                                @Value("${helper.mail-outbox.poll-ms:5000}") long pollMs,
+                                @Value("${helper.mail-outbox.batch-size:20}") int batchSize,
+                                @Value("${helper.mail-outbox.pool-size:2}") int poolSize,
+                                @Value("${helper.mail-outbox.rate-per-second:2}") double ratePerSecond,
+                                @Value("${helper.mail-outbox.max-attempts:8}") int maxAttempts,
+                                @Value("${helper.mail-outbox.claim-timeout-seconds:300}") long claimTimeoutSeconds,
+                                @Value("${helper.mail-outbox.initial-backoff-seconds:30}") long initialBackoffSeconds,
+                                @Value("${helper.mail-outbox.max-backoff-minutes:60}") long maxBackoffMinutes) {
+        this.outboxRepo = outboxRepo;
+        this.mailSender = mailSender;
+        this.tx = new TransactionTemplate(transactionManager);
+        this.meterRegistry = meterRegistry;
+        this.enabled = enabled;
+        this.pollMs = pollMs;
+        this.batchSize = batchSize;
+        this.maxAttempts = maxAttempts;
+        this.claimTimeout = Duration.ofSeconds(claimTimeoutSeconds);
+        this.initialBackoff = Duration.ofSeconds(initialBackoffSeconds);
+        this.maxBackoff = Duration.ofMinutes(maxBackoffMinutes);
+        this.permitIntervalNanos = (long) (TimeUnit.SECONDS.toNanos(1) / ratePerSecond);
+        this.executor = new ThreadPoolExecutor(poolSize, poolSize, 60, TimeUnit.SECONDS,
+                new ArrayBlockingQueue<>(batchSize), new CustomizableThreadFactory("mail-outbox-"),
+                new ThreadPoolExecutor.CallerRunsPolicy());
+        this.executor.allowCoreThreadTimeOut(true);
+        this.latency = Timer.builder("mail.outbox.latency")
+                .description("Time from enqueue to successful delivery")
+                .register(meterRegistry);
+        meterRegistry.gauge("mail.outbox.pending", pending);
+        meterRegistry.gauge("mail.outbox.dead", dead);
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void start() {
+        if (!enabled)
+            return;
+        poller.scheduleWithFixedDelay(() -> {
+            try {
+                int dispatched;
+                do {
+                    dispatched = dispatch();
+                } while (dispatched == batchSize && !Thread.currentThread().isInterrupted());
+            } catch (Exception e) {
+                log.error("failed to dispatch mail outbox : {}", e.getMessage());
+            }
+        }, pollMs, pollMs, TimeUnit.MILLISECONDS);
+    }
+
+    public int dispatch() throws InterruptedException {
+        LocalDateTime now = LocalDateTime.now();
+        List<MailOutbox> mails = tx.execute(status -> claim(now));
+        List<Future<?>> futures = new ArrayList<>();
+        for (MailOutbox mail : mails)
+            futures.add(executor.submit(() -> deliver(mail)));
+        for (Future<?> future : futures) {
+            try {
+                future.get();
+            } catch (ExecutionException e) {
+                log.error("failed to deliver mail : {}", e.getCause().getMessage());
+            }
+        }
+        tx.execute(status -> {
+            pending.set(outboxRepo.countByStatus(MailOutboxStatus.PENDING));
+            dead.set(outboxRepo.countByStatus(MailOutboxStatus.DEAD));
+            return null;
+        });
+        return mails.size();
+    }
+
+    private List<MailOutbox> claim(LocalDateTime now) {
+        LocalDateTime claimUntil = now.plus(claimTimeout);
+        List<Long> claimed = new ArrayList<>();
+        for (Long id : outboxRepo.findMailOutboxIdsByStatusAndNextAttemptBefore(MailOutboxStatus.PENDING, now,
+                PageRequest.of(0, batchSize))) {
+            if (outboxRepo.claimMailOutbox(id, MailOutboxStatus.PENDING, now, claimUntil) > 0)
+                claimed.add(id);
+        }
+        return claimed.isEmpty() ? new ArrayList<>() : outboxRepo.findAllById(claimed);
+    }
+
+    private void deliver(MailOutbox mail) {
+        try {
+            acquirePermit();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return;
+        }
+        try {
+            SimpleMailMessage message = new SimpleMailMessage();
+            message.setTo(mail.getRecipient());
+            message.setSubject(mail.getSubject());
+            message.setText(mail.getContent());
+            mailSender.send(message);
+        } catch (RuntimeException e) {
+            fail(mail, e);
+            return;
+        }
+        LocalDateTime now = LocalDateTime.now();
+        tx.execute(status -> outboxRepo.getById(mail.getId()).sent(now));
+        meterRegistry.counter("mail.outbox.sent").increment();
+        if (mail.getCreated() != null)
+            latency.record(Duration.between(mail.getCreated(), now));
+    }
+
+    private void fail(MailOutbox mail, RuntimeException e) {
+        if (mail.getAttempts() >= maxAttempts) {
+            tx.execute(status -> outboxRepo.getById(mail.getId()).dead(e.getMessage()));
+            meterRegistry.counter("mail.outbox.dead.lettered").increment();
+            log.error("Mail #{} to {} dead-lettered after {} attempts : {}",
+                    mail.getId(), mail.getRecipient(), mail.getAttempts(), e.getMessage());
+            return;
+        }
+        LocalDateTime nextAttemptAt = LocalDateTime.now().plus(backoff(mail.getAttempts()));
+        tx.execute(status -> outboxRepo.getById(mail.getId()).retry(e.getMessage(), nextAttemptAt));
+        meterRegistry.counter("mail.outbox.retried").increment();
+        log.warn("Mail #{} to {} failed, retrying at {} : {}",
+                mail.getId(), mail.getRecipient(), nextAttemptAt, e.getMessage());
+    }
+
+    private Duration backoff(int attempts) {
+        Duration backoff = initialBackoff.multipliedBy(1L << Math.min(Math.max(attempts - 1, 0), 20));
+        return backoff.compareTo(maxBackoff) > 0 ? maxBackoff : backoff;
+    }
+
+    private void acquirePermit() throws InterruptedException {
+        long waitNanos;
+        synchronized (this) {
+            long now = System.nanoTime();
+            long permitAt = Math.max(nextPermitNanos, now);
+            nextPermitNanos = permitAt + permitIntervalNanos;
+            waitNanos = permitAt - now;
+        }
+        if (waitNanos > 0)
+            TimeUnit.NANOSECONDS.sleep(waitNanos);
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        poller.shutdownNow();
+        executor.shutdownNow();
+    }
+}
@@ -1,97 +1,91 @@
 package io.seoul.helper.service;
 
-import io.seoul.helper.config.auth.dto.SessionUser;
-import io.seoul.helper.controller.user.dto.UserResponseDto;
+import io.seoul.helper.domain.mail.MailOutbox;
 import io.seoul.helper.domain.member.Member;
 import io.seoul.helper.domain.member.MemberRole;
 import io.seoul.helper.domain.team.Team;
 import io.seoul.helper.domain.user.User;
-import io.seoul.helper.repository.team.TeamRepository;
-import lombok.AllArgsConstructor;
-import org.springframework.mail.SimpleMailMessage;
-import org.springframework.mail.javamail.JavaMailSender;
-import org.springframework.scheduling.annotation.Async;
-import org.springframework.scheduling.annotation.EnableAsync;
+import io.seoul.helper.repository.mail.MailOutboxRepository;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 
-import javax.persistence.EntityNotFoundException;
+import java.util.List;
 import java.util.Objects;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
-
+/**
+ * Writes team notification mails to the outbox in the caller's transaction, so a mail exists
+ * exactly when the change it describes is committed. MailOutboxDispatcher delivers them.
+ */
 @Service
-@AllArgsConstructor
-@EnableAsync
 public class MailSenderService {
-    private final JavaMailSender mailSender;
-    private final TeamRepository teamRepo;
-    private final UserService userService;
+    private final MailOutboxRepository outboxRepo;
+    private final String baseUrl;
 
-    @Async
-    public void sendMail(String sendTo, String title, String content) {
-        SimpleMailMessage message = new SimpleMailMessage();
-        message.setTo(sendTo);
-        message.setSubject(title);
-        message.setText(content);
+    public MailSenderService(MailOutboxRepository outboxRepo,
+                             @Value("${helper.mail-outbox.base-url:helper.42seoul.io}") String baseUrl) {
+        this.outboxRepo = outboxRepo;
+        this.baseUrl = baseUrl;
+    }
 
-        mailSender.send(message);
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void enqueueMail(List<String> sendTo, String title, String content) {
+        outboxRepo.saveAll(sendTo.stream()
+                .filter(Objects::nonNull)
+                .distinct()
+                .map(o -> MailOutbox.builder()
+                        .recipient(o)
+                        .subject(title)
+                        .content(content)
+                        .build())
+                .collect(Collectors.toList()));
     }
 
-    @Async
-    @Transactional(readOnly = true)
-    public void sendMatchMail(Long teamId, String baseUrl) {
-        Team team = teamRepo.findById(teamId)
-                .orElseThrow(() -> new EntityNotFoundException("Team Not Exist"));
-        User user = team.getMembers().stream().filter(Member::getCreator).findFirst()
-                .orElseThrow(EntityNotFoundException::new).getUser();
-        sendMail(user.getEmail(), "Your Team Matched!",
-                "Team '#" + team.getId() + " - " + team.getProject().getName() + "' is Matched!\n" +
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void enqueueMatchMail(Team team) {
+        enqueueMail(emails(team.getMembers().stream().filter(Member::getCreator)), "Your Team Matched!",
+                "Team '" + teamTitle(team) + "' is Matched!\n" +
                         createLinkFromBaseUrl(baseUrl) + "/#" + team.getId());
     }
 
-    @Async
-    @Transactional(readOnly = true)
-    public void sendEndMail(Long teamId, String baseUrl) {
-        Team team = teamRepo.findById(teamId)
-                .orElseThrow(() -> new EntityNotFoundException("Team Not Exist"));
-        team.getMembers().stream()
-                .map(Member::getUser)
-                .filter(Objects::nonNull)
-                .forEach(user -> sendMail(user.getEmail(), "Your Team Ended!",
-                        "Team '#" + team.getId() + " - " + team.getProject().getName() + "' is Ended!\n" +
-                                createLinkFromBaseUrl(baseUrl) + "/#" + team.getId()));
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void enqueueEndMail(Team team) {
+        enqueueMail(emails(team.getMembers().stream()), "Your Team Ended!",
+                "Team '" + teamTitle(team) + "' is Ended!\n" +
+                        createLinkFromBaseUrl(baseUrl) + "/#" + team.getId());
     }
 
-    @Async
-    @Transactional(readOnly = true)
-    public void sendJoinMail(SessionUser userSession, Long teamId, String baseUrl) throws Exception {
-        Team team = teamRepo.findById(teamId)
-                .orElseThrow(() -> new EntityNotFoundException("Team Not Exist"));
-        UserResponseDto joinedUser = userService.findUserBySession(userSession);
-        team.getMembers().stream()
-                .filter(member -> member.getRole() == MemberRole.MENTOR)
-                .map(Member::getUser)
-                .forEach(mentor -> sendMail(mentor.getEmail(),
-                        "One of mentees has joined your Team!",
-                        "Mentee '" + joinedUser.getNickname() + "' has joined your Team #" + team.getId() + "'" +
-                                "\nTeam : " + createLinkFromBaseUrl(baseUrl) + "/#" + team.getId() +
-                                "\nMentee : " + createLinkFromBaseUrl("profile.intra.42.fr/users") + "/" + joinedUser.getNickname()));
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void enqueueJoinMail(Team team, String nickname) {
+        enqueueMail(emails(team.getMembers().stream().filter(member -> member.getRole() == MemberRole.MENTOR)),
+                "One of mentees has joined your Team!",
+                "Mentee '" + nickname + "' has joined your Team #" + team.getId() + "'" +
+                        "\nTeam : " + createLinkFromBaseUrl(baseUrl) + "/#" + team.getId() +
+                        "\nMentee : " + createLinkFromBaseUrl("profile.intra.42.fr/users") + "/" + nickname);
+    }
+
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void enqueueOutMail(Team team, String nickname) {
+        enqueueMail(emails(team.getMembers().stream().filter(member -> member.getRole() == MemberRole.MENTOR)),
+                "One of mentees has left your Team!",
+                "Mentee '" + nickname + "' has left your Team #" + team.getId() + "'" +
+                        "\nTeam : " + createLinkFromBaseUrl(baseUrl) + "/#" + team.getId() +
+                        "\nMentee : " + createLinkFromBaseUrl("profile.intra.42.fr/users") + "/" + nickname);
+    }
+
+    private List<String> emails(Stream<Member> members) {
+        return members.map(Member::getUser)
+                .filter(Objects::nonNull)
+                .map(User::getEmail)
+                .collect(Collectors.toList());
     }
 
-    @Async
-    @Transactional(readOnly = true)
-    public void sendOutMail(SessionUser userSession, Long teamId, String baseUrl) throws Exception {
-        Team team = teamRepo.findById(teamId)
-                .orElseThrow(() -> new EntityNotFoundException("Team Not Exist"));
-        UserResponseDto outUser = userService.findUserBySession(userSession);
-        team.getMembers().stream()
-                .filter(member -> member.getRole() == MemberRole.MENTOR)
-                .map(Member::getUser)
-                .forEach(mentor -> sendMail(mentor.getEmail(),
-                        "One of mentees has left your Team!",
-                        "Mentee '" + outUser.getNickname() + "' has left your Team #" + team.getId() + "'" +
-                                "\nTeam : " + createLinkFromBaseUrl(baseUrl) + "/#" + team.getId() +
-                                "\nMentee : " + createLinkFromBaseUrl("profile.intra.42.fr/users") + "/" + outUser.getNickname()));
+    private String teamTitle(Team team) {
+        return "#" + team.getId() + " - " +
+                (team.getProject() != null ? team.getProject().getName() : team.getSubject());
     }
 
     private String createLinkFromBaseUrl(String baseUrl) {
@@ -11,11 +11,14 @@ import io.seoul.helper.domain.user.User;
 import io.seoul.helper.repository.member.MemberRepository;
 import io.seoul.helper.repository.team.TeamRepository;
 import io.seoul.helper.repository.user.UserRepository;
+import io.seoul.helper.service.event.TeamChangedEvent;
 import lombok.AllArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 
 import javax.persistence.EntityNotFoundException;
 import javax.transaction.Transactional;
+import java.time.LocalDateTime;
 import java.util.ArrayList;
 import java.util.List;
 
@@ -26,21 +29,19 @@ public class MemberService {
     private final TeamRepository teamRepo;
     private final UserRepository userRepo;
     private final UserService userService;
+    private final ScheduleOverlapIndex scheduleOverlapIndex;
+    private final MailSenderService mailSenderService;
+    private final ApplicationEventPublisher eventPublisher;
 
     @Transactional
     public void joinTeam(SessionUser currentUser, MemberRequestDto requestDto) throws Exception {
         User user = userRepo.getById(userService.findUserBySession(currentUser).getId());
         Team team = teamRepo.findById(requestDto.getTeamId()).orElseThrow(() ->
                 new EntityNotFoundException("Team not exist"));
-        List<TeamStatus> statusList = new ArrayList<>();
-        statusList.add(TeamStatus.REVOKE);
-        statusList.add(TeamStatus.END);
-        teamRepo.findTeamsByUserAndDuplicateDateTime(statusList, user.getId(),
+        scheduleOverlapIndex.findOverlap(user.getId(),
                 team.getPeriod().getStartTime(), team.getPeriod().getEndTime())
-                .stream()
-                .findAny()
                 .ifPresent(o -> {
-                    throw new RuntimeException("Time Overlap - Team #" + o.getId());
+                    throw new RuntimeException("Time Overlap - Team #" + o);
                 });
         if (memberRepo.findMemberByTeamAndUser(team, user).isPresent())
             throw new Exception("Already joined");
@@ -59,6 +60,9 @@ public class MemberService {
                 .role(requestDto.getRole())
                 .build();
         memberRepo.save(member);
+        teamRepo.touchTeam(team.getId(), LocalDateTime.now());
+        eventPublisher.publishEvent(new TeamChangedEvent(team.getId(), user.getId()));
+        mailSenderService.enqueueJoinMail(team, user.getNickname());
     }
 
     @Transactional
@@ -80,6 +84,9 @@ public class MemberService {
         team.outTeam();
         teamRepo.save(team);
         memberRepo.delete(member);
+        teamRepo.touchTeam(team.getId(), LocalDateTime.now());
+        eventPublisher.publishEvent(new TeamChangedEvent(team.getId(), user.getId()));
+        mailSenderService.enqueueOutMail(team, user.getNickname());
     }
 
     private boolean isCreator(Member member) {
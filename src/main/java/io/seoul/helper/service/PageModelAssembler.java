@@ -0,0 +1,94 @@
+package io.seoul.helper.service;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.binder.jvm.ExecutorServiceMetrics;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.annotation.PreDestroy;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.*;
+import java.util.function.Supplier;
+
+@Slf4j
+@Service
+public class PageModelAssembler {
+    private final PlatformTransactionManager transactionManager;
+    private final TransactionTemplate readOnlyTx;
+    private final MeterRegistry meterRegistry;
+    private final ExecutorService executor;
+    private final long deadlineMillis;
+
+    public PageModelAssembler(PlatformTransactionManager transactionManager, MeterRegistry meterRegistry,
+                              @Value("${helper.page-loader.pool-size:8}") int poolSize,
+                              @Value("${helper.page-loader.queue-capacity:64}") int queueCapacity,
+                              @Value("${helper.page-loader.deadline-ms:3000}") long deadlineMillis) {
+        this.transactionManager = transactionManager;
+        this.readOnlyTx = new TransactionTemplate(transactionManager);
+        this.readOnlyTx.setReadOnly(true);
+        this.meterRegistry = meterRegistry;
+        this.deadlineMillis = deadlineMillis;
+        this.executor = ExecutorServiceMetrics.monitor(meterRegistry,
+                new ThreadPoolExecutor(poolSize, poolSize, 60L, TimeUnit.SECONDS,
+                        new ArrayBlockingQueue<>(queueCapacity),
+                        new CustomizableThreadFactory("page-loader-"),
+                        new ThreadPoolExecutor.CallerRunsPolicy()),
+                "page.loader");
+    }
+
+    /**
+     * Runs the loads in parallel and waits for them until deadline-ms. A load that fails, is cut
+     * off by the deadline or returns null is replaced by its entry in fallbacks, so the page can
+     * still render.
+     */
+    public Map<String, Object> assemble(String page, Map<String, Supplier<?>> loads, Map<String, ?> fallbacks) {
+        long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(deadlineMillis);
+        Map<String, Future<Object>> futures = new LinkedHashMap<>();
+        loads.forEach((name, load) -> futures.put(name,
+                executor.submit(() -> timed(page, name, load, deadline))));
+
+        Map<String, Object> attributes = new LinkedHashMap<>();
+        futures.forEach((name, future) -> {
+            Object value = await(page, name, future, deadline);
+            attributes.put(name, value == null ? fallbacks.get(name) : value);
+        });
+        return attributes;
+    }
+
+    private Object timed(String page, String name, Supplier<?> load, long deadline) {
+        long remainingNanos = deadline - System.nanoTime();
+        if (remainingNanos <= 0)
+            return null;
+        TransactionTemplate tx = new TransactionTemplate(transactionManager, readOnlyTx);
+        tx.setTimeout((int) Math.max(1L, (remainingNanos + TimeUnit.SECONDS.toNanos(1) - 1) / TimeUnit.SECONDS.toNanos(1)));
+        Timer timer = meterRegistry.timer("page.loader.load", "page", page, "load", name);
+        return timer.record(() -> tx.execute(status -> load.get()));
+    }
+
+    private Object await(String page, String name, Future<Object> future, long deadline) {
+        try {
+            return future.get(Math.max(0L, deadline - System.nanoTime()), TimeUnit.NANOSECONDS);
+        } catch (TimeoutException e) {
+            future.cancel(true);
+            meterRegistry.counter("page.loader.deadline.exceeded", "page", page, "load", name).increment();
+            log.error("failed to load {} of {} page : deadline {}ms exceeded", name, page, deadlineMillis);
+        } catch (ExecutionException e) {
+            log.error("failed to load {} of {} page : {}", name, page, e.getCause().getMessage());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            log.error("failed to load {} of {} page : interrupted", name, page);
+        }
+        return null;
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdown();
+    }
+}
@@ -1,15 +1,21 @@
 package io.seoul.helper.service;
 
+import io.seoul.helper.config.auth.dto.SessionUser;
 import io.seoul.helper.controller.project.dto.ProjectDto;
 import io.seoul.helper.domain.project.Project;
+import io.seoul.helper.domain.user.Role;
 import io.seoul.helper.repository.project.ProjectRepository;
 import lombok.AllArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.cache.annotation.CacheEvict;
+import org.springframework.cache.annotation.Cacheable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import javax.persistence.EntityNotFoundException;
+import java.util.Collections;
 import java.util.List;
+import java.util.Optional;
 import java.util.stream.Collectors;
 
 @Slf4j
@@ -18,16 +24,18 @@ import java.util.stream.Collectors;
 public class ProjectService {
     private final ProjectRepository projectRepo;
 
+    @Cacheable(value = "projects")
     @Transactional(readOnly = true)
     public List<ProjectDto> findAllProjects() {
         List<Project> list = projectRepo.findAll();
-        return list.stream().map((o) -> ProjectDto.builder()
+        return Collections.unmodifiableList(list.stream().map((o) -> ProjectDto.builder()
                 .id(o.getId())
                 .name(o.getName())
                 .build()
-        ).collect(Collectors.toList());
+        ).collect(Collectors.toList()));
     }
 
+    @Cacheable(value = "project", key = "#projectId")
     @Transactional(readOnly = true)
     public ProjectDto findProject(Long projectId) throws EntityNotFoundException {
         Project project = projectRepo.findById(projectId).
@@ -38,4 +46,11 @@ public class ProjectService {
                 .build();
     }
 
+    @CacheEvict(value = {"projects", "project"}, allEntries = true)
+    public void evictProjectCache(SessionUser userSession) throws Exception {
+        Optional.ofNullable(userSession)
+                .filter(o -> o.getRole() == Role.ADMIN)
+                .orElseThrow(() -> new Exception("관리자가 아닙니다."));
+        log.info("Project cache is evicted by {}", userSession.getNickname());
+    }
 }
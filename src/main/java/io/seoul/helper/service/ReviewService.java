@@ -1,6 +1,8 @@
 package io.seoul.helper.service;
 
 import io.seoul.helper.config.auth.dto.SessionUser;
+import io.seoul.helper.controller.dto.BatchRunResponseDto;
+import io.seoul.helper.controller.dto.VersionDto;
 import io.seoul.helper.controller.member.dto.MemberResponseDto;
 import io.seoul.helper.controller.review.dto.*;
 import io.seoul.helper.controller.team.dto.TeamResponseDto;
@@ -13,32 +15,36 @@ import io.seoul.helper.domain.user.Role;
 import io.seoul.helper.domain.user.User;
 import io.seoul.helper.repository.member.MemberRepository;
 import io.seoul.helper.repository.review.ReviewRepository;
+import io.seoul.helper.repository.review.ReviewSettleCandidate;
 import io.seoul.helper.repository.team.TeamRepository;
 import io.seoul.helper.repository.user.UserRepository;
+import io.seoul.helper.service.batch.BatchRunner;
+import io.seoul.helper.service.batch.ReviewTimeoutBatchJob;
 import lombok.AllArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.data.domain.PageRequest;
-import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDateTime;
-import java.util.HashSet;
-import java.util.List;
-import java.util.Optional;
-import java.util.Set;
+import java.util.*;
 import java.util.stream.Collectors;
 
 @Slf4j
 @Service
 @AllArgsConstructor
 public class ReviewService {
+    public static final long REVIEW_TIMEOUT_DAYS = 7;
+
     private final UserService userService;
     private final TeamInnerService teamInnerService;
     private final TeamRepository teamRepo;
     private final MemberRepository memberRepo;
     private final ReviewRepository reviewRepo;
     private final UserRepository userRepo;
+    private final SettleQueueService settleQueueService;
+    private final BatchRunner batchRunner;
+    private final ReviewTimeoutBatchJob reviewTimeoutBatchJob;
 
     @Transactional
     public List<Long> createReviews(Long teamId) {
@@ -54,6 +60,7 @@ public class ReviewService {
                         .score(Score.builder().fun(0).interested(0).nice(0).time(0).build())
                         .build())
                 .collect(Collectors.toList());
+        team.updatePendingReviewCount(reviews.size());
         return reviewRepo.saveAll(reviews).stream()
                 .map(Review::getId)
                 .collect(Collectors.toList());
@@ -74,7 +81,8 @@ public class ReviewService {
         }
         review.updateReview(requestDto.toEntitiy());
         reviewRepo.save(review);
-        teamInnerService.endTeam(review.getTeam().getId());
+        settleQueueService.enqueue(review);
+        teamInnerService.completeReviews(Collections.singletonMap(review.getTeam().getId(), 1));
     }
 
     public ReviewResponseDto getNewReview(SessionUser sessionUser, Long team_id) {
@@ -96,6 +104,12 @@ public class ReviewService {
         }
     }
 
+    @Transactional(readOnly = true)
+    public VersionDto findReviewVersionByMemberId(Long memberId) {
+        LocalDateTime updated = reviewRepo.findReviewUpdatedByMemberId(memberId);
+        return VersionDto.of(updated, memberId, updated);
+    }
+
     @Transactional(readOnly = true)
     public ReviewResponseDto findReviewByMemberId(Long memberId) throws Exception {
         Member member = memberRepo.findById(memberId)
@@ -121,42 +135,41 @@ public class ReviewService {
         Optional.of(sessionUser)
                 .filter(o -> o.getRole() == Role.ADMIN)
                 .orElseThrow(() -> new Exception("Not valid User"));
-        Pageable p = PageRequest.of(0, limit);
-        List<Review> lists = reviewRepo.findReviewsByNotSettle(p);
-        return lists.stream()
-                .map(review -> {
-                    User user = review.getUser();
-                    Team team = review.getTeam();
-                    Member member = memberRepo.findMemberByTeamAndUser(review.getTeam(), review.getUser())
-                            .orElseThrow(() -> new RuntimeException("Not exist member"));
-                    return ReviewNeedSettleResponseDto.builder()
-                            .id(review.getId())
-                            .score(ScoreDto.builder()
-                                    .fun(review.getScore().getFun())
-                                    .nice(review.getScore().getNice())
-                                    .time(review.getScore().getTime())
-                                    .interested(review.getScore().getInterested())
-                                    .build())
-                            .description(review.getDescription())
-                            .status(review.getStatus())
-                            .member(MemberResponseDto.builder()
-                                    .id(member.getId())
-                                    .userId(user.getId())
-                                    .nickname(user.getNickname())
-                                    .memberRole(member.getRole().toString())
-                                    .picture(user.getPicture())
-                                    .creator(member.getCreator())
-                                    .build())
-                            .team(new TeamResponseDto(team))
-                            .updated(review.getUpdated())
-                            .build();
-                })
+        List<ReviewSettleCandidate> candidates = reviewRepo.findReviewSettleCandidates(PageRequest.of(0, limit));
+        Set<Long> teamIds = candidates.stream()
+                .map(ReviewSettleCandidate::getTeamId)
+                .collect(Collectors.toSet());
+        Map<Long, TeamResponseDto> teams = new HashMap<>();
+        if (!teamIds.isEmpty())
+            teamRepo.findTeamsWithMembersByIdIn(teamIds).forEach(t -> teams.put(t.getId(), new TeamResponseDto(t)));
+        return candidates.stream()
+                .map(o -> ReviewNeedSettleResponseDto.builder()
+                        .id(o.getReviewId())
+                        .score(ScoreDto.builder()
+                                .fun(o.getFun())
+                                .nice(o.getNice())
+                                .time(o.getTime())
+                                .interested(o.getInterested())
+                                .build())
+                        .description(o.getDescription())
+                        .status(o.getStatus())
+                        .member(MemberResponseDto.builder()
+                                .id(o.getMemberId())
+                                .userId(o.getUserId())
+                                .nickname(o.getNickname())
+                                .memberRole(o.getMemberRole().toString())
+                                .picture(o.getPicture())
+                                .creator(o.getCreator())
+                                .build())
+                        .team(teams.get(o.getTeamId()))
+                        .updated(o.getUpdated())
+                        .build())
                 .collect(Collectors.toList());
     }
 
-    @Transactional
+    @Transactional(readOnly = true)
     public ReviewNeedSettleCountResponseDto getReviewNeedSettleCount() {
-        Long count = reviewRepo.getReviewNeedSettleCount();
+        Long count = settleQueueService.countPending();
         return ReviewNeedSettleCountResponseDto.builder()
                 .count(count)
                 .build();
@@ -164,20 +177,25 @@ public class ReviewService {
 
     @Transactional
     public void updateReviewsTimeoutBatch(LocalDateTime now) {
-        List<Review> reviews = reviewRepo.findReviewsByCreatedIsBeforeAndStatusEquals(now.minusDays(7), ReviewStatus.WAIT);
-        Set<Long> teamIds = new HashSet<>();
-        reviews.forEach(o -> {
-            Review r = reviewRepo.save(o.timeout());
-            log.info("Review #{} updated to {}", o.getId(), o.getStatus());
-            teamIds.add(r.getTeam().getId());
-        });
-        teamIds.forEach(o -> {
-            try {
-                teamInnerService.endTeam(o);
-            } catch (Exception e) {
-                log.error("Fail to end team : {}", e.getMessage());
-            }
-        });
-        log.info("UpdateReviewsTimeoutBatch successfully end");
+        LocalDateTime cutoffTime = now.minusDays(REVIEW_TIMEOUT_DAYS);
+        int processed = reviewTimeoutBatchJob.process(cutoffTime,
+                reviewRepo.findReviewIdsByStatusAndCreatedBefore(ReviewStatus.WAIT, cutoffTime));
+        log.info("UpdateReviewsTimeoutBatch successfully end : {} reviews", processed);
+    }
+
+    public BatchRunResponseDto timeoutReviews(LocalDateTime now) throws Exception {
+        return batchRunner.run(reviewTimeoutBatchJob, now.minusDays(REVIEW_TIMEOUT_DAYS));
+    }
+
+    @Transactional
+    public boolean timeoutReview(Long reviewId, LocalDateTime now) {
+        Review review = reviewRepo.findById(reviewId).orElse(null);
+        if (review == null || review.getStatus() != ReviewStatus.WAIT
+                || review.getCreated().isAfter(now.minusDays(REVIEW_TIMEOUT_DAYS)))
+            return false;
+        reviewRepo.save(review.timeout());
+        log.info("Review #{} updated to {}", review.getId(), review.getStatus());
+        teamInnerService.completeReviews(Collections.singletonMap(review.getTeam().getId(), 1));
+        return true;
     }
 }
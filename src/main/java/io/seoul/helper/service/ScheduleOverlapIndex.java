@@ -0,0 +1,148 @@
+package io.seoul.helper.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.seoul.helper.domain.team.TeamStatus;
+import io.seoul.helper.repository.team.TeamPeriod;
+import io.seoul.helper.repository.team.TeamRepository;
+import io.seoul.helper.service.event.TeamChangedEvent;
+import io.seoul.helper.service.event.TeamsChangedEvent;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.*;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Schedule overlap checks, split by purpose:
+ * <ul>
+ *     <li>findOverlap guards the write paths (create, update, join). It always runs an EXISTS query
+ *     against the database and is not affected by helper.schedule-index.enabled.</li>
+ *     <li>findOverlaps annotates list pages. It sweeps a per-user in-memory interval index, cached
+ *     per node for expire-after-write-minutes, which may lag behind writes on other nodes.
+ *     helper.schedule-index.enabled only turns that cache off.</li>
+ * </ul>
+ */
+@Service
+public class ScheduleOverlapIndex {
+    private static final List<TeamStatus> IGNORED_STATUS = Collections.unmodifiableList(
+            Arrays.asList(TeamStatus.REVOKE, TeamStatus.END));
+
+    private final TeamRepository teamRepo;
+    private final Cache<Long, UserSchedule> schedules;
+    private final boolean enabled;
+
+    public ScheduleOverlapIndex(TeamRepository teamRepo,
+                                @Value("${helper.schedule-index.enabled:true}") boolean enabled,
+                                @Value("${helper.schedule-index.maximum-size:10000}") long maximumSize,
+                                @Value("${helper.schedule-index.expire-after-write-minutes:5}") long expireMinutes) {
+        this.teamRepo = teamRepo;
+        this.enabled = enabled;
+        this.schedules = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfterWrite(expireMinutes, TimeUnit.MINUTES)
+                .build();
+    }
+
+    public Optional<Long> findOverlap(Long userId, LocalDateTime startTime, LocalDateTime endTime) {
+        return teamRepo.findTeamIdsByUserAndDuplicateDateTime(IGNORED_STATUS, userId, startTime, endTime,
+                PageRequest.of(0, 1))
+                .stream()
+                .findFirst();
+    }
+
+    public Map<Long, Long> findOverlaps(Long userId, List<TeamPeriod> periods) {
+        UserSchedule schedule = enabled ? schedules.get(userId, this::load) : load(userId);
+        return schedule.findOverlaps(periods);
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onTeamChanged(TeamChangedEvent event) {
+        if (event.getUserId() != null)
+            schedules.invalidate(event.getUserId());
+        schedules.asMap().values().removeIf(s -> s.contains(event.getTeamId()));
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onTeamsChanged(TeamsChangedEvent event) {
+        Set<Long> teamIds = new HashSet<>(event.getTeamIds());
+        schedules.asMap().values().removeIf(s -> s.containsAny(teamIds));
+    }
+
+    private UserSchedule load(Long userId) {
+        return new UserSchedule(teamRepo.findTeamPeriodsByUser(IGNORED_STATUS, userId));
+    }
+
+    private static long toEpochSecond(LocalDateTime time) {
+        return time.toEpochSecond(ZoneOffset.UTC);
+    }
+
+    static class UserSchedule {
+        private final long[] teamIds;
+        private final long[] starts;
+        private final long[] ends;
+        private final long[] maxEnds;
+
+        UserSchedule(List<TeamPeriod> periods) {
+            List<TeamPeriod> sorted = new ArrayList<>(periods);
+            sorted.sort(Comparator.comparing(TeamPeriod::getStartTime).thenComparing(TeamPeriod::getTeamId));
+            int size = sorted.size();
+            this.teamIds = new long[size];
+            this.starts = new long[size];
+            this.ends = new long[size];
+            this.maxEnds = new long[size];
+            for (int i = 0; i < size; i++) {
+                TeamPeriod period = sorted.get(i);
+                teamIds[i] = period.getTeamId();
+                starts[i] = toEpochSecond(period.getStartTime());
+                ends[i] = toEpochSecond(period.getEndTime());
+                maxEnds[i] = i == 0 ? ends[i] : Math.max(maxEnds[i - 1], ends[i]);
+            }
+        }
+
+        /**
+         * Maps each period to one team of the schedule it overlaps, if any. Touching ends do not
+         * overlap, and a period never conflicts with the same team id in the schedule.
+         */
+        Map<Long, Long> findOverlaps(List<TeamPeriod> periods) {
+            List<TeamPeriod> sorted = new ArrayList<>(periods);
+            sorted.sort(Comparator.comparing(TeamPeriod::getEndTime));
+            Map<Long, Long> overlaps = new HashMap<>();
+            int i = -1;
+            for (TeamPeriod period : sorted) {
+                long start = toEpochSecond(period.getStartTime());
+                long end = toEpochSecond(period.getEndTime());
+                while (i + 1 < starts.length && starts[i + 1] < end)
+                    i++;
+                for (int j = i; j >= 0 && maxEnds[j] > start; j--) {
+                    if (ends[j] > start && teamIds[j] != period.getTeamId()) {
+                        overlaps.put(period.getTeamId(), teamIds[j]);
+                        break;
+                    }
+                }
+            }
+            return overlaps;
+        }
+
+        private boolean containsAny(Set<Long> teamIds) {
+            for (long id : this.teamIds) {
+                if (teamIds.contains(id))
+                    return true;
+            }
+            return false;
+        }
+
+        private boolean contains(Long teamId) {
+            for (long id : teamIds) {
+                if (id == teamId)
+                    return true;
+            }
+            return false;
+        }
+    }
+}
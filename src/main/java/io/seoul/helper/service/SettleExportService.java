@@ -0,0 +1,140 @@
+package io.seoul.helper.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.seoul.helper.config.auth.dto.SessionUser;
+import io.seoul.helper.controller.settle.dto.SettleExportRequestDto;
+import io.seoul.helper.domain.user.Role;
+import io.seoul.helper.repository.settle.SettleExportRow;
+import io.seoul.helper.repository.settle.SettleRepository;
+import io.seoul.helper.repository.user.UserRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.Stream;
+
+/**
+ * Settlement export for finance. Rows are read through a forward-only stream of projections
+ * and written straight to the response, so memory does not grow with the size of the export.
+ */
+@Slf4j
+@Service
+public class SettleExportService {
+    public static final String FORMAT_CSV = "csv";
+    public static final String FORMAT_NDJSON = "ndjson";
+
+    private static final List<String> CSV_HEADER = Arrays.asList(
+            "settle_id", "status", "wallet_paid", "created", "updated", "admin",
+            "review_id", "fun", "nice", "time", "interested", "description",
+            "team_id", "team_subject", "user_id", "email", "nickname", "fullname", "member_role");
+
+    private final SettleRepository settleRepo;
+    private final UserRepository userRepo;
+    private final ObjectMapper objectMapper;
+    private final TransactionTemplate tx;
+    private final int fetchSize;
+
+    public SettleExportService(SettleRepository settleRepo, UserRepository userRepo, ObjectMapper objectMapper,
+                               PlatformTransactionManager transactionManager,
+                               @Value("${helper.settle-export.fetch-size:500}") int fetchSize) {
+        this.settleRepo = settleRepo;
+        this.userRepo = userRepo;
+        this.objectMapper = objectMapper;
+        this.tx = new TransactionTemplate(transactionManager);
+        this.tx.setReadOnly(true);
+        this.fetchSize = fetchSize;
+    }
+
+    @Transactional(readOnly = true)
+    public StreamingResponseBody exportSettles(SessionUser userSession, SettleExportRequestDto dto) throws Exception {
+        Optional<SessionUser> admin = Optional.ofNullable(userSession);
+        admin.map(o -> userRepo.getById(o.getId()))
+                .filter(o -> o.getRole() == Role.ADMIN)
+                .orElseThrow(() -> new Exception("관리자가 아닙니다."));
+        if (!FORMAT_CSV.equals(dto.getFormat()) && !FORMAT_NDJSON.equals(dto.getFormat()))
+            throw new Exception("지원하지 않는 형식입니다 : " + dto.getFormat());
+
+        return outputStream -> tx.execute(status -> {
+            Writer writer = new BufferedWriter(new OutputStreamWriter(outputStream, StandardCharsets.UTF_8));
+            long count = 0;
+            try (Stream<SettleExportRow> rows = settleRepo.streamSettleExportRows(dto.getStatus(),
+                    dto.getWalletPaid(), dto.getCreatedFrom(), dto.getCreatedTo(), fetchSize)) {
+                if (FORMAT_CSV.equals(dto.getFormat())) {
+                    writer.write('\uFEFF');
+                    writeCsvLine(writer, CSV_HEADER);
+                }
+                Iterator<SettleExportRow> iterator = rows.iterator();
+                while (iterator.hasNext()) {
+                    SettleExportRow row = iterator.next();
+                    if (FORMAT_CSV.equals(dto.getFormat())) {
+                        writeCsvLine(writer, toCsvValues(row));
+                    } else {
+                        writer.write(objectMapper.writeValueAsString(row));
+                        writer.write('\n');
+                    }
+                    count++;
+                }
+                writer.flush();
+            } catch (IOException e) {
+                throw new IllegalStateException("Settle export aborted after " + count + " rows", e);
+            }
+            log.info("Settle export : {} rows as {}", count, dto.getFormat());
+            return count;
+        });
+    }
+
+    private List<String> toCsvValues(SettleExportRow row) {
+        return Arrays.asList(
+                String.valueOf(row.getSettleId()),
+                row.getStatus() == null ? null : row.getStatus().name(),
+                String.valueOf(Boolean.TRUE.equals(row.getWalletPaid())),
+                row.getCreated() == null ? null : row.getCreated().toString(),
+                row.getUpdated() == null ? null : row.getUpdated().toString(),
+                row.getAdminNickname(),
+                String.valueOf(row.getReviewId()),
+                row.getFun() == null ? null : row.getFun().toString(),
+                row.getNice() == null ? null : row.getNice().toString(),
+                row.getTime() == null ? null : row.getTime().toString(),
+                row.getInterested() == null ? null : row.getInterested().toString(),
+                row.getDescription(),
+                String.valueOf(row.getTeamId()),
+                row.getTeamSubject(),
+                String.valueOf(row.getUserId()),
+                row.getEmail(),
+                row.getNickname(),
+                row.getFullname(),
+                row.getMemberRole() == null ? null : row.getMemberRole().name());
+    }
+
+    private void writeCsvLine(Writer writer, List<String> values) throws IOException {
+        for (int i = 0; i < values.size(); i++) {
+            if (i > 0)
+                writer.write(',');
+            writer.write(escapeCsv(values.get(i)));
+        }
+        writer.write("\r\n");
+    }
+
+    private String escapeCsv(String value) {
+        if (value == null || value.isEmpty())
+            return "";
+        if ("=+-@".indexOf(value.charAt(0)) >= 0)
+            value = "'" + value;
+        if (value.indexOf(',') < 0 && value.indexOf('"') < 0 && value.indexOf('\n') < 0 && value.indexOf('\r') < 0)
+            return value;
+        return '"' + value.replace("\"", "\"\"") + '"';
+    }
+}
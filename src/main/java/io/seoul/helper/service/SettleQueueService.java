@@ -0,0 +1,83 @@
+package io.seoul.helper.service;
+
+import io.seoul.helper.domain.common.QueueCounter;
+import io.seoul.helper.domain.review.Review;
+import io.seoul.helper.domain.settle.SettleQueue;
+import io.seoul.helper.repository.common.QueueCounterRepository;
+import io.seoul.helper.repository.settle.SettleQueueRepository;
+import lombok.AllArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * Open settlement work. A review is enqueued in the transaction that updates it and dequeued
+ * in the transaction that settles it, and the pending count is kept in queue_counter alongside.
+ * Queue rows removed by the review foreign key cascade bypass the counter, so repairPending
+ * rebuilds it from the queue itself.
+ */
+@Slf4j
+@Service
+@AllArgsConstructor
+public class SettleQueueService {
+    public static final String SETTLE_QUEUE = "settle";
+    public static final String REPAIR_LEASE = "settle-queue-repair";
+
+    private final SettleQueueRepository queueRepo;
+    private final QueueCounterRepository counterRepo;
+
+    @Transactional
+    public void enqueue(Review review) {
+        queueRepo.save(SettleQueue.builder()
+                .review(review)
+                .build());
+        counterRepo.addPending(SETTLE_QUEUE, 1);
+    }
+
+    @Transactional
+    public int dequeue(Collection<Long> reviewIds) {
+        if (reviewIds.isEmpty())
+            return 0;
+        int removed = queueRepo.deleteByReviewIdIn(reviewIds);
+        if (removed > 0)
+            counterRepo.addPending(SETTLE_QUEUE, -removed);
+        return removed;
+    }
+
+    /**
+     * Dequeues the reviews that are still queued and returns their ids. The queue rows are locked
+     * first, so when two transactions settle the same review only the first one gets it back.
+     */
+    @Transactional
+    public Set<Long> claim(Collection<Long> reviewIds) {
+        if (reviewIds.isEmpty())
+            return new HashSet<>();
+        Set<Long> claimed = queueRepo.findSettleQueuesForUpdateByReviewIdIn(reviewIds).stream()
+                .map(o -> o.getReview().getId())
+                .collect(Collectors.toSet());
+        dequeue(claimed);
+        return claimed;
+    }
+
+    @Transactional
+    public long repairPending() {
+        // take the counter row first so enqueue and dequeue wait until the count is written
+        counterRepo.addPending(SETTLE_QUEUE, 0);
+        long pending = queueRepo.count();
+        counterRepo.updatePending(SETTLE_QUEUE, pending);
+        log.info("Settle queue counter repaired : {} pending", pending);
+        return pending;
+    }
+
+    @Transactional(readOnly = true)
+    public long countPending() {
+        return counterRepo.findById(SETTLE_QUEUE)
+                .map(QueueCounter::getPending)
+                .orElse(0L);
+    }
+}
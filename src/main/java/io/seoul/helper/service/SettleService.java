@@ -3,36 +3,59 @@ package io.seoul.helper.service;
 import io.seoul.helper.config.auth.dto.SessionUser;
 import io.seoul.helper.controller.review.dto.ReviewResponseDto;
 import io.seoul.helper.controller.review.dto.ScoreDto;
+import io.seoul.helper.controller.settle.dto.SettleBulkPostResponseDto;
 import io.seoul.helper.controller.settle.dto.SettleNeedPaidGroupByUserResponseDto;
 import io.seoul.helper.controller.settle.dto.SettlePayRequestDto;
+import io.seoul.helper.controller.settle.dto.SettlePayResponseDto;
+import io.seoul.helper.controller.settle.dto.SettlePayResult;
+import io.seoul.helper.controller.settle.dto.SettlePayResultDto;
 import io.seoul.helper.controller.settle.dto.SettlePostRequestDto;
+import io.seoul.helper.controller.settle.dto.SettlePostResult;
+import io.seoul.helper.controller.settle.dto.SettlePostResultDto;
 import io.seoul.helper.controller.settle.dto.SettleResponseDto;
 import io.seoul.helper.controller.user.dto.UserResponseDto;
-import io.seoul.helper.domain.member.Member;
 import io.seoul.helper.domain.member.MemberRole;
 import io.seoul.helper.domain.review.Review;
+import io.seoul.helper.domain.review.ReviewStatus;
 import io.seoul.helper.domain.settle.Settle;
 import io.seoul.helper.domain.settle.SettleStatus;
-import io.seoul.helper.domain.team.Team;
 import io.seoul.helper.domain.user.Role;
 import io.seoul.helper.domain.user.User;
-import io.seoul.helper.repository.member.MemberRepository;
+import io.seoul.helper.repository.common.IdempotencyRecord;
+import io.seoul.helper.repository.common.IdempotencyRepository;
 import io.seoul.helper.repository.review.ReviewRepository;
+import io.seoul.helper.repository.review.ReviewSettleState;
+import io.seoul.helper.repository.settle.SettleBatchRepository;
+import io.seoul.helper.repository.settle.SettlePayment;
 import io.seoul.helper.repository.settle.SettleRepository;
+import io.seoul.helper.repository.settle.SettleSummary;
 import io.seoul.helper.repository.user.UserRepository;
+import com.fasterxml.jackson.databind.ObjectMapper;
 import lombok.AllArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.util.DigestUtils;
 
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
 import java.util.*;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
+@Slf4j
 @Service
 @AllArgsConstructor
 public class SettleService {
+    public static final String PAY_WALLET_SCOPE = "pay-wallet";
+
     private SettleRepository settleRepo;
+    private SettleBatchRepository settleBatchRepo;
     private UserRepository userRepo;
     private ReviewRepository reviewRepo;
-    private MemberRepository memberRepo;
+    private SettleQueueService settleQueueService;
+    private IdempotencyRepository idempotencyRepo;
+    private ObjectMapper objectMapper;
 
     @Transactional
     public SettleResponseDto postSettle(SessionUser userSession, SettlePostRequestDto dto) throws Exception {
@@ -41,6 +64,10 @@ public class SettleService {
                 .filter(o -> o.getRole() == Role.ADMIN)
                 .orElseThrow(() -> new Exception("관리자가 아닙니다."));
         Review review = reviewRepo.getById(dto.getReviewId());
+        if (review.getStatus() != ReviewStatus.UPDATED)
+            throw new Exception("작성되지 않은 리뷰입니다.");
+        if (settleQueueService.claim(Collections.singletonList(review.getId())).isEmpty())
+            throw new Exception("이미 정산된 리뷰입니다.");
         Settle settle = Settle.builder()
                 .admin(user)
                 .review(review)
@@ -69,6 +96,62 @@ public class SettleService {
                 .build();
     }
 
+    @Transactional
+    public SettleBulkPostResponseDto postSettles(SessionUser userSession, List<SettlePostRequestDto> dtos)
+            throws Exception {
+        Optional<SessionUser> admin = Optional.ofNullable(userSession);
+        User user = admin.map(o -> userRepo.getById(o.getId()))
+                .filter(o -> o.getRole() == Role.ADMIN)
+                .orElseThrow(() -> new Exception("관리자가 아닙니다."));
+        Set<Long> reviewIds = dtos.stream()
+                .map(SettlePostRequestDto::getReviewId)
+                .filter(Objects::nonNull)
+                .collect(Collectors.toSet());
+        Map<Long, ReviewSettleState> states = new HashMap<>();
+        if (!reviewIds.isEmpty())
+            reviewRepo.findReviewSettleStatesByIdIn(reviewIds).forEach(o -> states.put(o.getReviewId(), o));
+
+        Map<Long, SettleStatus> decisions = new LinkedHashMap<>();
+        List<SettlePostResult> outcomes = new ArrayList<>();
+        for (SettlePostRequestDto dto : dtos) {
+            Long reviewId = dto.getReviewId();
+            if (reviewId == null || dto.getStatus() == null)
+                outcomes.add(SettlePostResult.INVALID);
+            else if (!states.containsKey(reviewId))
+                outcomes.add(SettlePostResult.MISSING);
+            else if (states.get(reviewId).isSettled())
+                outcomes.add(SettlePostResult.ALREADY_SETTLED);
+            else if (!states.get(reviewId).isUpdated())
+                outcomes.add(SettlePostResult.NOT_UPDATED);
+            else if (decisions.putIfAbsent(reviewId, dto.getStatus()) != null)
+                outcomes.add(SettlePostResult.DUPLICATED);
+            else
+                outcomes.add(SettlePostResult.CREATED);
+        }
+
+        // the pre-read above does not lock, so a review only counts once its queue row is ours
+        Set<Long> claimed = settleQueueService.claim(decisions.keySet());
+        decisions.keySet().retainAll(claimed);
+        List<SettlePostResultDto> results = new ArrayList<>();
+        for (int i = 0; i < dtos.size(); i++) {
+            Long reviewId = dtos.get(i).getReviewId();
+            SettlePostResult result = outcomes.get(i);
+            if (result == SettlePostResult.CREATED && !claimed.contains(reviewId))
+                result = SettlePostResult.ALREADY_SETTLED;
+            results.add(SettlePostResultDto.builder()
+                    .reviewId(reviewId)
+                    .result(result)
+                    .build());
+        }
+
+        int created = settleBatchRepo.insertSettles(user.getId(), decisions, LocalDateTime.now());
+        return SettleBulkPostResponseDto.builder()
+                .created(created)
+                .rejected(results.size() - decisions.size())
+                .results(results)
+                .build();
+    }
+
     @Transactional(readOnly = true)
     public SettleResponseDto getSettle(Long id) throws Exception {
         Settle settle = settleRepo.findById(id).orElseThrow(() -> new Exception("Cannot found resource"));
@@ -95,55 +178,120 @@ public class SettleService {
                 .build();
     }
 
-    @Transactional
+    @Transactional(readOnly = true)
     public List<SettleNeedPaidGroupByUserResponseDto> getSettleNeedPaidGroupByUser() {
-        Map<Long, SettleNeedPaidGroupByUserResponseDto> map = new HashMap<>();
-        Set<SettleStatus> statusSet = new HashSet<>();
-        statusSet.add(SettleStatus.PASS);
-        List<Settle> settles = settleRepo.findSettlesByStatusInAndWalletPaid(statusSet, false);
-        settles.stream().forEach(o -> {
-            Review review = o.getReview();
-            User user = review.getUser();
-            Team team = review.getTeam();
-            Member member = memberRepo.findMemberByTeamAndUser(team, user)
-                    .orElseThrow(() -> new RuntimeException("매칭되는 유저 없음"));
-            SettleNeedPaidGroupByUserResponseDto dto = map.getOrDefault(user.getId(),
-                    SettleNeedPaidGroupByUserResponseDto.builder()
-                            .user(UserResponseDto.builder()
-                                    .id(user.getId())
-                                    .email(user.getEmail())
-                                    .nickname(user.getNickname())
-                                    .name(user.getFullname())
-                                    .picture(user.getPicture())
-                                    .build())
-                            .menteeSettles(new ArrayList<>())
-                            .mentorSettles(new ArrayList<>())
-                            .build());
-            try {
-                if (member.getRole() == MemberRole.MENTOR)
-                    dto.getMentorSettles().add(this.getSettle(o.getId()));
-                else {
-                    dto.getMenteeSettles().add(this.getSettle(o.getId()));
-                }
-            } catch (Exception e) {
-                throw new RuntimeException(e.getMessage());
-            }
-            map.put(user.getId(), dto);
-        });
+        Map<Long, SettleNeedPaidGroupByUserResponseDto> map = new LinkedHashMap<>();
+        try (Stream<SettleSummary> settles = settleRepo.findSettleSummariesByStatusInAndWalletPaid(
+                Collections.singleton(SettleStatus.PASS), false)) {
+            settles.forEach(o -> {
+                SettleNeedPaidGroupByUserResponseDto dto = map.computeIfAbsent(o.getUserId(), id ->
+                        SettleNeedPaidGroupByUserResponseDto.builder()
+                                .user(UserResponseDto.builder()
+                                        .id(o.getUserId())
+                                        .email(o.getEmail())
+                                        .nickname(o.getNickname())
+                                        .name(o.getFullname())
+                                        .picture(o.getPicture())
+                                        .build())
+                                .menteeSettles(new ArrayList<>())
+                                .mentorSettles(new ArrayList<>())
+                                .build());
+                if (o.getMemberRole() == MemberRole.MENTOR)
+                    dto.getMentorSettles().add(toSettleResponseDto(o));
+                else
+                    dto.getMenteeSettles().add(toSettleResponseDto(o));
+            });
+        }
         return new ArrayList<>(map.values());
     }
 
+    private SettleResponseDto toSettleResponseDto(SettleSummary settle) {
+        return SettleResponseDto.builder()
+                .id(settle.getSettleId())
+                .admin(UserResponseDto.builder()
+                        .id(settle.getAdminId())
+                        .nickname(settle.getAdminNickname())
+                        .build())
+                .review(ReviewResponseDto.builder()
+                        .id(settle.getReviewId())
+                        .score(ScoreDto.builder()
+                                .fun(settle.getFun())
+                                .nice(settle.getNice())
+                                .time(settle.getTime())
+                                .interested(settle.getInterested())
+                                .build())
+                        .description(settle.getDescription())
+                        .build())
+                .status(settle.getStatus())
+                .build();
+    }
+
     @Transactional
-    public void payWallet(SessionUser userSession, List<SettlePayRequestDto> dtos) throws Exception {
+    public SettlePayResponseDto payWallet(SessionUser userSession, String idempotencyKey,
+                                          List<SettlePayRequestDto> dtos) throws Exception {
         Optional<SessionUser> admin = Optional.ofNullable(userSession);
         User user = admin.map(o -> userRepo.getById(o.getId()))
                 .filter(o -> o.getRole() == Role.ADMIN)
                 .orElseThrow(() -> new Exception("관리자가 아닙니다."));
-        dtos.forEach(o -> {
-            Settle settle = settleRepo.findById(o.getId())
-                    .orElseThrow(() -> new RuntimeException("요청한 정산목록을 찾을 수 없습니다."));
-            if (!settle.payWallet()) throw new RuntimeException("해당 정산은 이미 지급처리 되었습니다.");
-            settleRepo.save(settle);
-        });
+        String scope = PAY_WALLET_SCOPE + ":" + user.getId();
+        List<Long> ids = dtos.stream()
+                .map(SettlePayRequestDto::getId)
+                .filter(Objects::nonNull)
+                .distinct()
+                .collect(Collectors.toList());
+        String requestHash = DigestUtils.md5DigestAsHex(ids.stream()
+                .sorted()
+                .map(String::valueOf)
+                .collect(Collectors.joining(","))
+                .getBytes(StandardCharsets.UTF_8));
+
+        LocalDateTime now = LocalDateTime.now();
+        if (idempotencyKey != null && !idempotencyRepo.claim(scope, idempotencyKey, requestHash, now))
+            return replayPayWallet(scope, idempotencyKey, requestHash);
+
+        Map<Long, SettlePayment> payments = new HashMap<>();
+        int updated = 0;
+        if (!ids.isEmpty()) {
+            settleBatchRepo.findSettlePaymentsForUpdate(ids).forEach(o -> payments.put(o.getId(), o));
+            updated = settleRepo.updateWalletPaidByIdIn(ids, now);
+        }
+        List<SettlePayResultDto> results = ids.stream()
+                .map(id -> SettlePayResultDto.builder()
+                        .id(id)
+                        .result(!payments.containsKey(id) ? SettlePayResult.MISSING
+                                : payments.get(id).isPaid() ? SettlePayResult.ALREADY_PAID : SettlePayResult.PAID)
+                        .build())
+                .collect(Collectors.toList());
+        SettlePayResponseDto response = SettlePayResponseDto.builder()
+                .idempotencyKey(idempotencyKey)
+                .paid(countPayResult(results, SettlePayResult.PAID))
+                .alreadyPaid(countPayResult(results, SettlePayResult.ALREADY_PAID))
+                .missing(countPayResult(results, SettlePayResult.MISSING))
+                .results(results)
+                .build();
+        if (updated != response.getPaid())
+            log.warn("Wallet payout expected {} rows but updated {}", response.getPaid(), updated);
+
+        if (idempotencyKey != null)
+            idempotencyRepo.complete(scope, idempotencyKey, objectMapper.writeValueAsString(response));
+        return response;
+    }
+
+    private SettlePayResponseDto replayPayWallet(String scope, String idempotencyKey, String requestHash)
+            throws Exception {
+        IdempotencyRecord record = idempotencyRepo.find(scope, idempotencyKey)
+                .orElseThrow(() -> new Exception("같은 키로 처리 중인 지급 요청이 있습니다."));
+        if (!record.getRequestHash().equals(requestHash))
+            throw new Exception("다른 지급 요청에 이미 사용된 키입니다.");
+        if (record.getResponse() == null)
+            throw new Exception("같은 키로 처리 중인 지급 요청이 있습니다.");
+        return objectMapper.readValue(record.getResponse(), SettlePayResponseDto.class)
+                .toBuilder()
+                .replayed(true)
+                .build();
+    }
+
+    private int countPayResult(List<SettlePayResultDto> results, SettlePayResult result) {
+        return (int) results.stream().filter(o -> o.getResult() == result).count();
     }
 }
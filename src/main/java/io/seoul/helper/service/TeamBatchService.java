@@ -0,0 +1,90 @@
+package io.seoul.helper.service;
+
+import io.seoul.helper.controller.team.dto.TeamBatchResponseDto;
+import io.seoul.helper.domain.team.TeamStatus;
+import io.seoul.helper.repository.team.TeamRepository;
+import io.seoul.helper.service.event.TeamsChangedEvent;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+
+@Slf4j
+@Service
+public class TeamBatchService {
+    public static final String TIMEOUT_LEASE = "team-timeout";
+    private static final int SAMPLE_SIZE = 20;
+
+    private final TeamRepository teamRepo;
+    private final ApplicationEventPublisher eventPublisher;
+    private final TransactionTemplate tx;
+    private final int chunkSize;
+
+    public TeamBatchService(TeamRepository teamRepo, ApplicationEventPublisher eventPublisher,
+                            PlatformTransactionManager transactionManager,
+                            @Value("${helper.batch.chunk-size:500}") int chunkSize) {
+        this.teamRepo = teamRepo;
+        this.eventPublisher = eventPublisher;
+        this.tx = new TransactionTemplate(transactionManager);
+        this.chunkSize = chunkSize;
+    }
+
+    public TeamBatchResponseDto timeoutTeams(LocalDateTime currentTime) {
+        AtomicLong updatedCount = new AtomicLong();
+        int chunkCount = 0;
+        List<Long> sampleTeamIds = new ArrayList<>();
+        Long lastId = 0L;
+
+        while (true) {
+            Long fromId = lastId;
+            List<Long> teamIds = tx.execute(status -> {
+                List<Long> ids = teamRepo.findTeamIdsByStatusAndEndTimeBefore(
+                        TeamStatus.WAITING, currentTime, fromId, PageRequest.of(0, chunkSize));
+                if (ids.isEmpty())
+                    return ids;
+                int updated = teamRepo.updateTeamStatusByIdRange(TeamStatus.WAITING, TeamStatus.TIMEOUT,
+                        currentTime, ids.get(0), ids.get(ids.size() - 1));
+                updatedCount.addAndGet(updated);
+                if (updated != ids.size())
+                    log.info("Team timeout chunk #{}-#{} : {} selected, {} updated",
+                            ids.get(0), ids.get(ids.size() - 1), ids.size(), updated);
+                eventPublisher.publishEvent(new TeamsChangedEvent(ids));
+                return ids;
+            });
+            if (teamIds.isEmpty())
+                break;
+            chunkCount++;
+            for (int i = 0; i < teamIds.size() && sampleTeamIds.size() < SAMPLE_SIZE; i++)
+                sampleTeamIds.add(teamIds.get(i));
+            lastId = teamIds.get(teamIds.size() - 1);
+            if (teamIds.size() < chunkSize)
+                break;
+        }
+        log.info("Team timeout batch : {} teams in {} chunks", updatedCount.get(), chunkCount);
+        return TeamBatchResponseDto.builder()
+                .updatedCount(updatedCount.get())
+                .chunkCount(chunkCount)
+                .sampleTeamIds(sampleTeamIds)
+                .build();
+    }
+
+    public boolean timeoutTeam(Long teamId, LocalDateTime currentTime) {
+        return tx.execute(status -> {
+            int updated = teamRepo.updateTeamStatusByIdRange(TeamStatus.WAITING, TeamStatus.TIMEOUT,
+                    currentTime, teamId, teamId);
+            if (updated == 0)
+                return false;
+            eventPublisher.publishEvent(new TeamsChangedEvent(Collections.singletonList(teamId)));
+            return true;
+        });
+    }
+}
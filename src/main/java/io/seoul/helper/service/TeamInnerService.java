@@ -1,48 +1,73 @@
 package io.seoul.helper.service;
 
-import io.seoul.helper.domain.member.Member;
-import io.seoul.helper.domain.review.Review;
+import io.seoul.helper.controller.team.dto.TeamBatchResponseDto;
 import io.seoul.helper.domain.review.ReviewStatus;
-import io.seoul.helper.domain.team.Team;
 import io.seoul.helper.domain.team.TeamStatus;
-import io.seoul.helper.repository.review.ReviewRepository;
 import io.seoul.helper.repository.team.TeamRepository;
+import io.seoul.helper.service.event.TeamsChangedEvent;
 import lombok.AllArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 
-import javax.persistence.EntityNotFoundException;
 import javax.transaction.Transactional;
-import java.util.List;
+import java.time.LocalDateTime;
+import java.util.*;
 
 @Slf4j
 @Service
 @AllArgsConstructor
 public class TeamInnerService {
+    public static final String PENDING_REVIEW_REPAIR_LEASE = "pending-review-repair";
+
     private final TeamRepository teamRepo;
-    private final ReviewRepository reviewRepo;
+    private final ApplicationEventPublisher eventPublisher;
+
+    @Transactional
+    public int completeReviews(Map<Long, Integer> reviewCounts) {
+        List<Long> teamIds = new ArrayList<>();
+        List<Long> outOfSync = new ArrayList<>();
+        reviewCounts.forEach((teamId, count) -> {
+            if (teamRepo.decrementPendingReviewCount(teamId, TeamStatus.REVIEW, count) > 0)
+                teamIds.add(teamId);
+            else
+                outOfSync.add(teamId);
+        });
+        int ended = 0;
+        if (!teamIds.isEmpty()) {
+            ended = teamRepo.updateTeamStatusByIdInAndNoPendingReview(teamIds, TeamStatus.REVIEW, TeamStatus.END,
+                    LocalDateTime.now());
+            eventPublisher.publishEvent(new TeamsChangedEvent(teamIds));
+        }
+        if (!outOfSync.isEmpty()) {
+            log.warn("Team {} : pending review count is out of sync", outOfSync);
+            ended += endTeams(outOfSync).size();
+        }
+        return ended;
+    }
 
     @Transactional
-    public void endTeam(Long id) throws Exception {
-        Team team = teamRepo.findById(id)
-                .orElseThrow(() -> new EntityNotFoundException(String.format("Team #%d is not exist", id)));
-        List<Member> members = team.getMembers();
+    public TeamBatchResponseDto repairPendingReviewCounts() {
+        int repaired = teamRepo.repairPendingReviewCount(TeamStatus.REVIEW, ReviewStatus.WAIT);
+        List<Long> ended = endTeams(teamRepo.findTeamIdsByStatusAndNoPendingReview(TeamStatus.REVIEW));
+        log.info("Pending review count repaired : {} teams, {} ended", repaired, ended.size());
+        return TeamBatchResponseDto.builder()
+                .updatedCount(repaired)
+                .chunkCount(1)
+                .sampleTeamIds(ended)
+                .build();
+    }
 
-        if (team.getStatus() != TeamStatus.REVIEW)
-            throw new Exception(String.format("This team #%d - %s cannot end : TEAM STATUS IS %s",
-                    team.getId(), team.getSubject(), team.getStatus()));
-        if (members.stream().anyMatch(m -> m.getParticipation() == null))
-            return;
-        if (members.stream()
-                .filter(Member::getParticipation)
-                .map(m -> reviewRepo.findReviewByTeamAndUser(m.getTeam(), m.getUser())
-                        .orElseGet(() -> Review.builder()
-                                .status(ReviewStatus.WAIT)
-                                .build()))
-                .anyMatch(r -> r.getStatus() == ReviewStatus.WAIT))
-            return;
-        team.updateTeamEnd();
-        teamRepo.save(team);
-        log.info("Team #{} : {} is ended", team.getId(), team.getSubject());
+    @Transactional
+    public List<Long> endTeams(Collection<Long> ids) {
+        if (ids.isEmpty())
+            return Collections.emptyList();
+        List<Long> teamIds = teamRepo.findTeamIdsWithoutWaitingReview(ids, TeamStatus.REVIEW, ReviewStatus.WAIT);
+        if (teamIds.isEmpty())
+            return teamIds;
+        int updated = teamRepo.updateTeamStatusByIdIn(teamIds, TeamStatus.REVIEW, TeamStatus.END, LocalDateTime.now());
+        eventPublisher.publishEvent(new TeamsChangedEvent(teamIds));
+        log.info("Team {} : {} teams are ended", teamIds, updated);
+        return teamIds;
     }
 }
@@ -0,0 +1,281 @@
+package io.seoul.helper.service;
+
+import io.seoul.helper.controller.team.dto.TeamSearchRequestDto;
+import io.seoul.helper.controller.team.dto.TeamSearchResponseDto;
+import io.seoul.helper.domain.team.Team;
+import io.seoul.helper.domain.team.TeamLocation;
+import io.seoul.helper.domain.team.TeamStatus;
+import io.seoul.helper.repository.team.TeamRepository;
+import io.seoul.helper.service.event.TeamChangedEvent;
+import io.seoul.helper.service.event.TeamsChangedEvent;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.lucene.analysis.Analyzer;
+import org.apache.lucene.analysis.cjk.CJKAnalyzer;
+import org.apache.lucene.document.*;
+import org.apache.lucene.index.IndexWriter;
+import org.apache.lucene.index.IndexWriterConfig;
+import org.apache.lucene.index.Term;
+import org.apache.lucene.search.*;
+import org.apache.lucene.search.highlight.*;
+import org.apache.lucene.store.ByteBuffersDirectory;
+import org.apache.lucene.util.QueryBuilder;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.annotation.PreDestroy;
+import java.io.IOException;
+import java.time.LocalDateTime;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+@Slf4j
+@Service
+public class TeamSearchIndex {
+    private static final String FIELD_ID = "id";
+    private static final String FIELD_SUBJECT = "subject";
+    private static final String FIELD_DESCRIPTION = "description";
+    private static final String FIELD_PROJECT = "project";
+    private static final String FIELD_STATUS = "status";
+    private static final String FIELD_LOCATION = "location";
+    private static final String FIELD_START_TIME = "startTime";
+    private static final int LOAD_CHUNK_SIZE = 500;
+    private static final int MAX_LIMIT = 100;
+    private static final int SNIPPET_SIZE = 100;
+    private static final LocalDateTime NEVER_UPDATED = LocalDateTime.of(1970, 1, 1, 0, 0);
+
+    private final TeamRepository teamRepo;
+    private final TransactionTemplate readOnlyTx;
+    /**
+     * Indexes CJK text as overlapping bigrams, so a Korean query matches inside a longer word
+     * ("제목" finds "제목입니다") without a morphological dictionary.
+     */
+    private final Analyzer analyzer = new CJKAnalyzer();
+    private final IndexWriter writer;
+    private final SearcherManager searcherManager;
+    private final Set<Long> staleTeamIds = ConcurrentHashMap.newKeySet();
+    private final long stalenessCheckNanos;
+    private final AtomicBoolean checking = new AtomicBoolean();
+
+    private volatile LocalDateTime watermark;
+    private volatile long lastCheckedNanos = System.nanoTime();
+
+    public TeamSearchIndex(TeamRepository teamRepo, PlatformTransactionManager transactionManager,
+                           @Value("${helper.search-index.staleness-check-ms:1000}") long stalenessCheckMillis)
+            throws IOException {
+        this.teamRepo = teamRepo;
+        this.readOnlyTx = new TransactionTemplate(transactionManager);
+        this.readOnlyTx.setReadOnly(true);
+        this.readOnlyTx.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        this.stalenessCheckNanos = TimeUnit.MILLISECONDS.toNanos(stalenessCheckMillis);
+        this.writer = new IndexWriter(new ByteBuffersDirectory(), new IndexWriterConfig(analyzer));
+        this.searcherManager = new SearcherManager(writer, null);
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void load() throws IOException {
+        LocalDateTime loadedWatermark = Optional.ofNullable(readOnlyTx.execute(status -> teamRepo.findTeamUpdatedMax()))
+                .orElse(NEVER_UPDATED);
+        int indexed = 0;
+        Page<Team> teams;
+        int page = 0;
+        do {
+            int current = page++;
+            List<Document> documents = new ArrayList<>();
+            teams = readOnlyTx.execute(status -> {
+                Page<Team> chunk = teamRepo.findAll(PageRequest.of(current, LOAD_CHUNK_SIZE, Sort.by(FIELD_ID)));
+                chunk.forEach(t -> documents.add(toDocument(t)));
+                return chunk;
+            });
+            for (Document document : documents)
+                writer.updateDocument(new Term(FIELD_ID, document.get(FIELD_ID)), document);
+            indexed += documents.size();
+        } while (teams.hasNext());
+        writer.commit();
+        searcherManager.maybeRefreshBlocking();
+        watermark = loadedWatermark;
+        log.info("Team search index loaded : {} teams", indexed);
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onTeamChanged(TeamChangedEvent event) {
+        tryReindex(Collections.singletonList(event.getTeamId()));
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onTeamsChanged(TeamsChangedEvent event) {
+        tryReindex(event.getTeamIds());
+    }
+
+    /**
+     * Runs after the change has committed, so a failure must not reach the caller. Teams that
+     * could not be reindexed are retried together with the next change.
+     */
+    private void tryReindex(List<Long> teamIds) {
+        Set<Long> ids = new HashSet<>(teamIds);
+        ids.addAll(staleTeamIds);
+        try {
+            reindex(new ArrayList<>(ids));
+            staleTeamIds.removeAll(ids);
+        } catch (IOException | RuntimeException e) {
+            staleTeamIds.addAll(ids);
+            log.error("failed to reindex teams {} : {}", ids, e.getMessage());
+        }
+    }
+
+    /**
+     * AFTER_COMMIT events only cover writes made on this node. Before searching, at most once per
+     * staleness-check-ms, reindex the teams whose updated moved past the watermark, the same way
+     * the active team read model catches up. Only one search runs the check at a time.
+     */
+    private void catchUp() {
+        LocalDateTime from = watermark;
+        if (from == null || System.nanoTime() - lastCheckedNanos < stalenessCheckNanos
+                || !checking.compareAndSet(false, true))
+            return;
+        try {
+            lastCheckedNanos = System.nanoTime();
+            LocalDateTime latest = readOnlyTx.execute(status -> teamRepo.findTeamUpdatedMax());
+            if (latest == null || !latest.isAfter(from))
+                return;
+            List<Long> teamIds = readOnlyTx.execute(status -> teamRepo.findTeamIdsByUpdatedFrom(from));
+            watermark = latest;
+            if (!teamIds.isEmpty())
+                tryReindex(teamIds);
+        } catch (RuntimeException e) {
+            log.error("failed to catch up team search index : {}", e.getMessage());
+        } finally {
+            checking.set(false);
+        }
+    }
+
+    private void reindex(List<Long> teamIds) throws IOException {
+        Map<String, Document> documents = readOnlyTx.execute(status -> teamRepo.findAllById(teamIds).stream()
+                .map(this::toDocument)
+                .collect(Collectors.toMap(d -> d.get(FIELD_ID), Function.identity())));
+        for (Long teamId : teamIds) {
+            Term id = new Term(FIELD_ID, String.valueOf(teamId));
+            Document document = documents.get(id.text());
+            if (document == null)
+                writer.deleteDocuments(id);
+            else
+                writer.updateDocument(id, document);
+        }
+        searcherManager.maybeRefreshBlocking();
+    }
+
+    public List<TeamSearchResponseDto> search(TeamSearchRequestDto requestDto) throws Exception {
+        Query query = toQuery(requestDto);
+        if (query == null)
+            throw new IllegalArgumentException("Empty search query");
+        catchUp();
+        int limit = Math.max(1, Math.min(requestDto.getLimit(), MAX_LIMIT));
+
+        Highlighter subjectHighlighter = highlighter(query, FIELD_SUBJECT);
+        Highlighter descriptionHighlighter = highlighter(query, FIELD_DESCRIPTION);
+        List<TeamSearchResponseDto> results = new ArrayList<>();
+        IndexSearcher searcher = searcherManager.acquire();
+        try {
+            for (ScoreDoc scoreDoc : searcher.search(query, limit).scoreDocs) {
+                Document document = searcher.doc(scoreDoc.doc);
+                results.add(TeamSearchResponseDto.builder()
+                        .teamId(Long.valueOf(document.get(FIELD_ID)))
+                        .subject(document.get(FIELD_SUBJECT))
+                        .projectName(document.get(FIELD_PROJECT))
+                        .status(TeamStatus.valueOf(document.get(FIELD_STATUS)))
+                        .location(document.get(FIELD_LOCATION) == null ? null
+                                : TeamLocation.valueOf(document.get(FIELD_LOCATION)))
+                        .startTime(LocalDateTime.parse(document.get(FIELD_START_TIME)))
+                        .score(scoreDoc.score)
+                        .subjectSnippet(snippet(subjectHighlighter, FIELD_SUBJECT, document))
+                        .descriptionSnippet(snippet(descriptionHighlighter, FIELD_DESCRIPTION, document))
+                        .build());
+            }
+        } finally {
+            searcherManager.release(searcher);
+        }
+        return results;
+    }
+
+    private Query toQuery(TeamSearchRequestDto requestDto) {
+        if (requestDto.getQuery() == null)
+            return null;
+        QueryBuilder builder = new QueryBuilder(analyzer);
+        BooleanQuery.Builder text = new BooleanQuery.Builder();
+        addText(text, builder.createBooleanQuery(FIELD_SUBJECT, requestDto.getQuery(), BooleanClause.Occur.MUST), 2f);
+        addText(text, builder.createBooleanQuery(FIELD_PROJECT, requestDto.getQuery(), BooleanClause.Occur.MUST), 1.5f);
+        addText(text, builder.createBooleanQuery(FIELD_DESCRIPTION, requestDto.getQuery(), BooleanClause.Occur.MUST), 1f);
+        BooleanQuery textQuery = text.build();
+        if (textQuery.clauses().isEmpty())
+            return null;
+
+        BooleanQuery.Builder query = new BooleanQuery.Builder()
+                .add(textQuery, BooleanClause.Occur.MUST);
+        if (requestDto.getStatusList() != null && !requestDto.getStatusList().isEmpty()) {
+            BooleanQuery.Builder status = new BooleanQuery.Builder();
+            requestDto.getStatusList().forEach(s ->
+                    status.add(new TermQuery(new Term(FIELD_STATUS, s.name())), BooleanClause.Occur.SHOULD));
+            query.add(status.build(), BooleanClause.Occur.FILTER);
+        }
+        if (requestDto.getLocation() != null)
+            query.add(new TermQuery(new Term(FIELD_LOCATION, requestDto.getLocation().name())), BooleanClause.Occur.FILTER);
+        return query.build();
+    }
+
+    private void addText(BooleanQuery.Builder text, Query query, float boost) {
+        if (query != null)
+            text.add(new BoostQuery(query, boost), BooleanClause.Occur.SHOULD);
+    }
+
+    private Highlighter highlighter(Query query, String field) {
+        Highlighter highlighter = new Highlighter(new SimpleHTMLFormatter("<b>", "</b>"),
+                new SimpleHTMLEncoder(), new QueryScorer(query, field));
+        highlighter.setTextFragmenter(new SimpleFragmenter(SNIPPET_SIZE));
+        return highlighter;
+    }
+
+    private String snippet(Highlighter highlighter, String field, Document document) throws Exception {
+        String text = document.get(field);
+        if (text == null)
+            return null;
+        String fragment = highlighter.getBestFragment(analyzer, field, text);
+        if (fragment != null)
+            return fragment;
+        return SimpleHTMLEncoder.htmlEncode(text.length() > SNIPPET_SIZE ? text.substring(0, SNIPPET_SIZE) : text);
+    }
+
+    private Document toDocument(Team team) {
+        Document document = new Document();
+        document.add(new StringField(FIELD_ID, String.valueOf(team.getId()), Field.Store.YES));
+        document.add(new StringField(FIELD_STATUS, team.getStatus().name(), Field.Store.YES));
+        if (team.getLocation() != null)
+            document.add(new StringField(FIELD_LOCATION, team.getLocation().name(), Field.Store.YES));
+        document.add(new StoredField(FIELD_START_TIME, team.getPeriod().getStartTime().toString()));
+        if (team.getSubject() != null)
+            document.add(new TextField(FIELD_SUBJECT, team.getSubject(), Field.Store.YES));
+        if (team.getDescription() != null)
+            document.add(new TextField(FIELD_DESCRIPTION, team.getDescription(), Field.Store.YES));
+        if (team.getProject() != null)
+            document.add(new TextField(FIELD_PROJECT, team.getProject().getName(), Field.Store.YES));
+        return document;
+    }
+
+    @PreDestroy
+    public void close() throws IOException {
+        searcherManager.close();
+        writer.close();
+    }
+}
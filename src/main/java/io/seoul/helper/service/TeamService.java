@@ -1,6 +1,7 @@
 package io.seoul.helper.service;
 
 import io.seoul.helper.config.auth.dto.SessionUser;
+import io.seoul.helper.controller.dto.VersionDto;
 import io.seoul.helper.controller.team.dto.*;
 import io.seoul.helper.domain.member.Member;
 import io.seoul.helper.domain.member.MemberRole;
@@ -12,11 +13,17 @@ import io.seoul.helper.domain.team.TeamStatus;
 import io.seoul.helper.domain.user.User;
 import io.seoul.helper.repository.member.MemberRepository;
 import io.seoul.helper.repository.project.ProjectRepository;
+import io.seoul.helper.repository.team.TeamCursor;
+import io.seoul.helper.repository.team.TeamPeriod;
 import io.seoul.helper.repository.team.TeamRepository;
+import io.seoul.helper.repository.team.TeamVersion;
 import io.seoul.helper.repository.user.UserRepository;
+import io.seoul.helper.service.event.TeamChangedEvent;
 import lombok.AllArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
@@ -24,8 +31,8 @@ import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import javax.persistence.EntityNotFoundException;
-import java.time.LocalDateTime;
 import java.util.*;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 
 @Service
@@ -39,6 +46,10 @@ public class TeamService {
     private final UserService userService;
     private final ReviewService reviewService;
     private final MemberService memberService;
+    private final ActiveTeamReadModel activeTeamReadModel;
+    private final ScheduleOverlapIndex scheduleOverlapIndex;
+    private final MailSenderService mailSenderService;
+    private final ApplicationEventPublisher eventPublisher;
 
     @Transactional
     public TeamResponseDto createNewTeam(SessionUser currentUser, TeamCreateRequestDto requestDto) throws Exception {
@@ -48,16 +59,9 @@ public class TeamService {
                 .startTime(requestDto.getStartTime())
                 .endTime(requestDto.getEndTime())
                 .build();
-        List<TeamStatus> statusList = new ArrayList<>();
-        statusList.add(TeamStatus.REVOKE);
-        statusList.add(TeamStatus.END);
-        teamRepo.findTeamsByUserAndDuplicateDateTime(
-                statusList, user.getId(),
-                requestDto.getStartTime(), requestDto.getEndTime())
-                .stream()
-                .findAny()
+        scheduleOverlapIndex.findOverlap(user.getId(), requestDto.getStartTime(), requestDto.getEndTime())
                 .ifPresent(o -> {
-                    throw new RuntimeException("Time Overlap - Team #" + o.getId());
+                    throw new RuntimeException("Time Overlap - Team #" + o);
                 });
         if (!period.isValid())
             throw new IllegalArgumentException("Invalid Time");
@@ -76,6 +80,7 @@ public class TeamService {
                 .creator(true)
                 .build();
         memberRepo.save(member);
+        eventPublisher.publishEvent(new TeamChangedEvent(team.getId(), user.getId()));
         return new TeamResponseDto(team);
     }
 
@@ -85,16 +90,9 @@ public class TeamService {
         Team team = teamRepo.findById(teamId)
                 .orElseThrow(() -> new EntityNotFoundException("Team is not exist"));
 
-        List<TeamStatus> statusList = new ArrayList<>();
-        statusList.add(TeamStatus.REVOKE);
-        statusList.add(TeamStatus.END);
-        teamRepo.findTeamsByUserAndDuplicateDateTime(
-                statusList,
-                user.getId(),
-                requestDto.getStartTime(),
-                requestDto.getEndTime()).stream().findAny()
+        scheduleOverlapIndex.findOverlap(user.getId(), requestDto.getStartTime(), requestDto.getEndTime())
                 .ifPresent(o -> {
-                    throw new RuntimeException("Time Overlap - Team #" + o.getId());
+                    throw new RuntimeException("Time Overlap - Team #" + o);
                 });
         if (team.getStatus() != TeamStatus.WAITING)
             throw new Exception("The team already has mentor");
@@ -116,26 +114,11 @@ public class TeamService {
                 .role(MemberRole.MENTOR)
                 .creator(false)
                 .build());
+        eventPublisher.publishEvent(new TeamChangedEvent(team.getId(), user.getId()));
+        mailSenderService.enqueueMatchMail(team);
         return new TeamResponseDto(team);
     }
 
-    @Transactional
-    public List<TeamResponseDto> updateTeamsLessThanCurrentTime() throws EntityNotFoundException {
-        LocalDateTime currentTime = LocalDateTime.now();
-        List<Team> teams = teamRepo.findTeamsByStatusNotAndEndTimeLessThan(TeamStatus.WAITING, currentTime);
-
-        if (teams.isEmpty()) {
-            throw new EntityNotFoundException("Nothing to change teams");
-        }
-        for (Team team : teams) {
-            team.updateTeamTimeout();
-        }
-        teams = teamRepo.saveAll(teams);
-
-        return teams.stream().map(TeamResponseDto::new)
-                .collect(Collectors.toList());
-    }
-
     @Transactional
     public void revokeTeam(SessionUser currentUser, Long id) throws Exception {
         User user = userRepo.getById(userService.findUserBySession(currentUser).getId());
@@ -158,6 +141,8 @@ public class TeamService {
         });
         team.updateTeamRevoke();
         teamRepo.save(team);
+        eventPublisher.publishEvent(new TeamChangedEvent(team.getId()));
+        mailSenderService.enqueueEndMail(team);
     }
 
     @Transactional
@@ -172,24 +157,31 @@ public class TeamService {
         } else {
             team.updateTeamReview();
             teamRepo.save(team);
+            eventPublisher.publishEvent(new TeamChangedEvent(team.getId()));
         }
         memberService.participateMembers(currentUser, requestDto);
         reviewService.createReviews(requestDto.getId());
+        mailSenderService.enqueueEndMail(team);
     }
 
+    /**
+     * Ties on the sort key are broken by id, the same order the cursor seeks in, so offset pages
+     * neither repeat nor skip teams that share a start time.
+     */
     private Pageable toPageable(int offset, int limit, String sort) throws Exception {
         Pageable pageable;
         try {
+            String sortKey = sort;
+            Sort.Direction direction = Sort.Direction.DESC;
             if (sort.contains(",")) {
                 String[] sortOption = sort.split(",");
-                pageable = PageRequest.of(
-                        offset, limit,
-                        sortOption[1].equals("asc") ? Sort.Direction.ASC : Sort.Direction.DESC,
-                        sortOption[0]);
-            } else {
-                pageable = PageRequest.of(
-                        offset, limit, Sort.Direction.DESC, sort);
+                sortKey = sortOption[0];
+                direction = sortOption[1].equals("asc") ? Sort.Direction.ASC : Sort.Direction.DESC;
             }
+            Sort order = Sort.by(direction, sortKey);
+            if (!sortKey.equals(TeamCursor.SORT_ID))
+                order = order.and(Sort.by(direction, TeamCursor.SORT_ID));
+            pageable = PageRequest.of(offset, limit, order);
         } catch (Exception e) {
             throw new Exception("failed to Pageable");
         }
@@ -198,57 +190,169 @@ public class TeamService {
 
     @Transactional
     public Page<TeamResponseDto> findTeams(TeamListRequestDto requestDto) {
-        Page<Team> teams;
+        Optional<ActiveTeamPage> activeTeams = findActiveTeams(requestDto);
+        if (activeTeams.isPresent())
+            return activeTeams.get().getTeams();
+
+        Page<Long> teamIds;
         try {
-            Pageable pageable = toPageable(requestDto.getOffset(), requestDto.getLimit(), requestDto.getSort());
-
-            if (requestDto.getNickname() != null) {
-                List<Long> teamIds = findTeamIdsByNickname(requestDto.getNickname(), requestDto.isCreateor(), requestDto.getMemberRole());
-
-                teams = teamRepo.findTeamsByTeamIdIn(
-                        requestDto.getStartTimePrevious(), requestDto.getEndTimePrevious(), requestDto.getStatusList(),
-                        requestDto.getLocation(), teamIds, pageable);
-            } else if (requestDto.getExcludeNickname() != null) {
-                List<Long> teamIds = findTeamIdsByNickname(requestDto.getExcludeNickname(), requestDto.isCreateor(), requestDto.getMemberRole());
-
-                if (teamIds.isEmpty()) {
-                    teams = teamRepo.findTeamsByQueryParameters(
-                            requestDto.getStartTimePrevious(), requestDto.getEndTimePrevious(), requestDto.getStatusList(),
-                            requestDto.getLocation(), pageable);
-                } else {
-                    teams = teamRepo.findTeamsByTeamIdNotIn(
-                            requestDto.getStartTimePrevious(), requestDto.getEndTimePrevious(), requestDto.getStatusList(),
-                            requestDto.getLocation(), teamIds, pageable);
-                }
-
-            } else {
-                teams = teamRepo.findTeamsByQueryParameters(
-                        requestDto.getStartTimePrevious(), requestDto.getEndTimePrevious(), requestDto.getStatusList(),
-                        requestDto.getLocation(), pageable);
-            }
+            teamIds = findTeamIdPage(requestDto);
+        } catch (Exception e) {
+            log.error("failed to find teams : " + e.getMessage() + "\n\n" + e.getCause());
+            return null;
+        }
+        return findTeams(teamIds);
+    }
+
+    public Optional<ActiveTeamPage> findActiveTeams(TeamListRequestDto requestDto) {
+        return activeTeamReadModel.findTeams(requestDto);
+    }
+
+    /**
+     * Loads the page for ids already fetched by the caller, e.g. to compute its version, so a
+     * conditional request that misses does not run the id and count queries twice. The read model
+     * is not consulted here, so the body always matches the version built from these ids.
+     */
+    @Transactional
+    public Page<TeamResponseDto> findTeams(Page<Long> teamIds) {
+        List<TeamResponseDto> teams = findTeamsWithMembers(teamIds.getContent()).stream()
+                .map(TeamResponseDto::new)
+                .collect(Collectors.toList());
+        return new PageImpl<>(teams, teamIds.getPageable(), teamIds.getTotalElements());
+    }
+
+    @Transactional(readOnly = true)
+    public VersionDto findTeamsVersion(TeamListRequestDto requestDto) throws Exception {
+        if (requestDto.getAfter() != null)
+            return findTeamsVersion(findTeamIdsAfter(requestDto));
+        return findTeamsVersion(findTeamIdPage(requestDto));
+    }
+
+    @Transactional(readOnly = true)
+    public VersionDto findTeamsVersion(Page<Long> teamIds) {
+        return toVersion(teamIds.getContent(), teamIds.getTotalElements());
+    }
+
+    @Transactional(readOnly = true)
+    public VersionDto findTeamsVersion(List<Long> teamIds) {
+        return toVersion(teamIds, teamIds.size());
+    }
+
+    @Transactional(readOnly = true)
+    public VersionDto findTeamVersion(Long teamId) throws EntityNotFoundException {
+        TeamVersion version = teamRepo.findTeamVersionByIdIn(Collections.singletonList(teamId));
+        if (version.getTeamCount() == 0)
+            throw new EntityNotFoundException("Team is not exist");
+        return VersionDto.of(version.getLastModified(), teamId, version.getMemberCount(),
+                version.getTeamUpdated(), version.getMemberUpdated());
+    }
+
+    private VersionDto toVersion(List<Long> teamIds, long totalElements) {
+        if (teamIds.isEmpty())
+            return VersionDto.of(null, teamIds, totalElements);
+        TeamVersion version = teamRepo.findTeamVersionByIdIn(teamIds);
+        return VersionDto.of(version.getLastModified(), teamIds, totalElements, version.getMemberCount(),
+                version.getTeamUpdated(), version.getMemberUpdated());
+    }
+
+    @Transactional(readOnly = true)
+    public Page<Long> findTeamIdPage(TeamListRequestDto requestDto) throws Exception {
+        Pageable pageable = toPageable(requestDto.getOffset(), requestDto.getLimit(), requestDto.getSort());
+
+        if (requestDto.getNickname() != null) {
+            return teamRepo.findTeamIdsByMemberNickname(
+                    requestDto.getStartTimePrevious(), requestDto.getEndTimePrevious(), requestDto.getStatusList(),
+                    requestDto.getLocation(), requestDto.getNickname(), requestDto.isCreateor(),
+                    requestDto.getMemberRole(), pageable);
+        } else if (requestDto.getExcludeNickname() != null) {
+            return teamRepo.findTeamIdsByNotMemberNickname(
+                    requestDto.getStartTimePrevious(), requestDto.getEndTimePrevious(), requestDto.getStatusList(),
+                    requestDto.getLocation(), requestDto.getExcludeNickname(), requestDto.isCreateor(),
+                    requestDto.getMemberRole(), pageable);
+        }
+        return teamRepo.findTeamIdsByQueryParameters(
+                requestDto.getStartTimePrevious(), requestDto.getEndTimePrevious(), requestDto.getStatusList(),
+                requestDto.getLocation(), pageable);
+    }
+
+    @Transactional(readOnly = true)
+    public List<Long> findTeamIdsAfter(TeamListRequestDto requestDto) throws Exception {
+        return findTeamIdsAfter(requestDto, TeamCursor.of(requestDto.getSort(), requestDto.getAfter()));
+    }
+
+    private List<Long> findTeamIdsAfter(TeamListRequestDto requestDto, TeamCursor cursor) {
+        return teamRepo.findTeamIdsBySeek(
+                requestDto.getStartTimePrevious(), requestDto.getEndTimePrevious(), requestDto.getStatusList(),
+                requestDto.getLocation(), requestDto.getNickname(), requestDto.getExcludeNickname(),
+                requestDto.isCreateor(), requestDto.getMemberRole(), cursor, requestDto.getLimit());
+    }
+
+    @Transactional(readOnly = true)
+    public TeamSliceResponseDto findTeamsAfter(TeamListRequestDto requestDto) {
+        return findTeamsAfter(requestDto, null);
+    }
+
+    @Transactional(readOnly = true)
+    public TeamSliceResponseDto findTeamsAfter(TeamListRequestDto requestDto, List<Long> teamIds) {
+        TeamCursor cursor;
+        try {
+            cursor = TeamCursor.of(requestDto.getSort(), requestDto.getAfter());
+            if (teamIds == null)
+                teamIds = findTeamIdsAfter(requestDto, cursor);
         } catch (Exception e) {
             log.error("failed to find teams : " + e.getMessage() + "\n\n" + e.getCause());
             return null;
         }
-        return teams.map(TeamResponseDto::new);
+        boolean hasNext = teamIds.size() > requestDto.getLimit();
+        if (hasNext)
+            teamIds = teamIds.subList(0, requestDto.getLimit());
+        List<Team> teams = findTeamsWithMembers(teamIds);
+        return TeamSliceResponseDto.builder()
+                .content(teams.stream().map(TeamResponseDto::new).collect(Collectors.toList()))
+                .next(hasNext ? cursor.next(teams.get(teams.size() - 1)).encode() : null)
+                .hasNext(hasNext)
+                .build();
     }
 
-    private List<Long> findTeamIdsByNickname(String nickName, boolean isCreator, MemberRole memberRole) {
-        User user = userRepo.findUserByNickname(nickName).
-                orElseThrow(() -> new EntityNotFoundException("Invalid User"));
-        List<Member> members;
+    @Transactional(readOnly = true)
+    public Page<TeamResponseDto> annotateJoinable(SessionUser currentUser, Page<TeamResponseDto> teams) {
+        return new PageImpl<>(annotateJoinable(currentUser, teams.getContent()),
+                teams.getPageable(), teams.getTotalElements());
+    }
 
-        if (isCreator)
-            members = memberRepo.findMembersByUserAndCreatorAndRole(user, true, memberRole);
-        else
-            members = memberRepo.findMembersByUserAndRole(user, memberRole);
+    @Transactional(readOnly = true)
+    public TeamSliceResponseDto annotateJoinable(SessionUser currentUser, TeamSliceResponseDto teams) {
+        return TeamSliceResponseDto.builder()
+                .content(annotateJoinable(currentUser, teams.getContent()))
+                .next(teams.getNext())
+                .hasNext(teams.isHasNext())
+                .build();
+    }
 
+    private List<TeamResponseDto> annotateJoinable(SessionUser currentUser, List<TeamResponseDto> teams) {
+        Map<Long, Long> overlaps = scheduleOverlapIndex.findOverlaps(currentUser.getId(), teams.stream()
+                .map(t -> new TeamPeriod(t.getTeamId(), t.getStartTime(), t.getEndTime()))
+                .collect(Collectors.toList()));
+        return teams.stream()
+                .map(t -> t.withJoinable(currentUser.getId(), overlaps.get(t.getTeamId())))
+                .collect(Collectors.toList());
+    }
 
-        return members.stream()
-                .map(m -> m.getTeam().getId())
+    private List<Team> findTeamsWithMembers(List<Long> teamIds) {
+        if (teamIds.isEmpty())
+            return new ArrayList<>();
+        Map<Long, Team> teams = teamRepo.findTeamsWithMembersByIdIn(teamIds).stream()
+                .collect(Collectors.toMap(Team::getId, Function.identity()));
+        return teamIds.stream()
+                .map(teams::get)
+                .filter(Objects::nonNull)
                 .collect(Collectors.toList());
     }
 
+    public VersionDto findAllLocationVersion() {
+        return VersionDto.of(null, Arrays.toString(TeamLocation.values()));
+    }
+
     @Transactional
     public List<TeamLocationDto> findAllLocation() {
         return Arrays.stream(TeamLocation.values()).map(o -> TeamLocationDto.builder()
@@ -0,0 +1,225 @@
+package io.seoul.helper.service;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.seoul.helper.controller.team.dto.TeamDeltaDto;
+import io.seoul.helper.repository.team.TeamRepository;
+import io.seoul.helper.service.event.TeamChangedEvent;
+import io.seoul.helper.service.event.TeamsChangedEvent;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import javax.annotation.PreDestroy;
+import java.time.LocalDateTime;
+import java.util.*;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+
+@Slf4j
+@Service
+public class TeamStreamHub {
+    private static final String EVENT_TEAM = "team";
+    private static final String EVENT_RESYNC = "resync";
+    private static final LocalDateTime NEVER_UPDATED = LocalDateTime.of(1970, 1, 1, 0, 0);
+
+    private final TeamRepository teamRepo;
+    private final TransactionTemplate readOnlyTx;
+    private final Set<Subscriber> subscribers = ConcurrentHashMap.newKeySet();
+    private final ExecutorService deliveryExecutor;
+    private final ScheduledExecutorService heartbeatScheduler;
+    private final Counter overflowCounter;
+    private final int queueCapacity;
+    private final long timeoutMillis;
+    private final int maxSubscribers;
+
+    private volatile LocalDateTime watermark;
+
+    public TeamStreamHub(TeamRepository teamRepo, PlatformTransactionManager transactionManager,
+                         MeterRegistry meterRegistry,
+                         @Value("${helper.team-stream.queue-capacity:32}") int queueCapacity,
+                         @Value("${helper.team-stream.delivery-threads:2}") int deliveryThreads,
+                         @Value("${helper.team-stream.heartbeat-ms:15000}") long heartbeatMillis,
+                         @Value("${helper.team-stream.timeout-ms:1800000}") long timeoutMillis,
+                         @Value("${helper.team-stream.max-subscribers:500}") int maxSubscribers,
+                         @Value("${helper.team-stream.catch-up-ms:5000}") long catchUpMillis) {
+        this.teamRepo = teamRepo;
+        this.readOnlyTx = new TransactionTemplate(transactionManager);
+        this.readOnlyTx.setReadOnly(true);
+        this.readOnlyTx.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        this.queueCapacity = queueCapacity;
+        this.timeoutMillis = timeoutMillis;
+        this.maxSubscribers = maxSubscribers;
+        this.deliveryExecutor = Executors.newFixedThreadPool(deliveryThreads,
+                new CustomizableThreadFactory("team-stream-"));
+        this.heartbeatScheduler = Executors.newSingleThreadScheduledExecutor(
+                new CustomizableThreadFactory("team-stream-heartbeat-"));
+        this.heartbeatScheduler.scheduleAtFixedRate(this::heartbeat,
+                heartbeatMillis, heartbeatMillis, TimeUnit.MILLISECONDS);
+        this.heartbeatScheduler.scheduleWithFixedDelay(this::catchUp,
+                catchUpMillis, catchUpMillis, TimeUnit.MILLISECONDS);
+        this.overflowCounter = meterRegistry.counter("team.stream.overflow");
+        meterRegistry.gaugeCollectionSize("team.stream.subscribers", Collections.emptyList(), subscribers);
+    }
+
+    /**
+     * Returns empty when max-subscribers streams are already open, so the caller can answer 503
+     * instead of holding another connection and delivery queue.
+     */
+    public Optional<SseEmitter> subscribe() {
+        return subscribe(new SseEmitter(timeoutMillis));
+    }
+
+    synchronized Optional<SseEmitter> subscribe(SseEmitter emitter) {
+        if (subscribers.size() >= maxSubscribers)
+            return Optional.empty();
+        Subscriber subscriber = new Subscriber(emitter, queueCapacity);
+        emitter.onCompletion(() -> subscribers.remove(subscriber));
+        emitter.onTimeout(() -> subscribers.remove(subscriber));
+        emitter.onError(e -> subscribers.remove(subscriber));
+        subscribers.add(subscriber);
+        return Optional.of(emitter);
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onTeamChanged(TeamChangedEvent event) {
+        publishDeltas(Collections.singletonList(event.getTeamId()));
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onTeamsChanged(TeamsChangedEvent event) {
+        publishDeltas(event.getTeamIds());
+    }
+
+    /**
+     * The listeners above only see commits made on this node. Every catch-up-ms, while anyone is
+     * subscribed, look for teams whose updated moved past the watermark and publish them too, so
+     * writes from other nodes reach these streams. A local change can be sent twice this way;
+     * deltas carry the whole team state, so clients apply them idempotently.
+     */
+    void catchUp() {
+        if (subscribers.isEmpty()) {
+            watermark = null;
+            return;
+        }
+        try {
+            LocalDateTime from = watermark;
+            LocalDateTime latest = Optional.ofNullable(readOnlyTx.execute(status -> teamRepo.findTeamUpdatedMax()))
+                    .orElse(NEVER_UPDATED);
+            if (from != null && !latest.isAfter(from))
+                return;
+            watermark = latest;
+            if (from != null)
+                publishDeltas(readOnlyTx.execute(status -> teamRepo.findTeamIdsByUpdatedFrom(from)));
+        } catch (Exception e) {
+            log.error("failed to catch up team stream : {}", e.getMessage());
+        }
+    }
+
+    private void publishDeltas(List<Long> teamIds) {
+        if (subscribers.isEmpty() || teamIds.isEmpty())
+            return;
+        List<TeamDeltaDto> deltas = readOnlyTx.execute(status ->
+                teamRepo.findTeamsWithMembersByIdIn(teamIds).stream()
+                        .map(TeamDeltaDto::new)
+                        .collect(Collectors.toList()));
+        deltas.forEach(delta -> publish(() -> SseEmitter.event()
+                .name(EVENT_TEAM)
+                .id(String.valueOf(delta.getTeamId()))
+                .data(delta)));
+    }
+
+    private void publish(Supplier<SseEmitter.SseEventBuilder> event) {
+        subscribers.forEach(subscriber -> {
+            if (!subscriber.offer(event))
+                overflowCounter.increment();
+            schedule(subscriber);
+        });
+    }
+
+    void heartbeat() {
+        subscribers.stream()
+                .filter(Subscriber::isIdle)
+                .forEach(subscriber -> {
+                    subscriber.offer(() -> SseEmitter.event().comment("heartbeat"));
+                    schedule(subscriber);
+                });
+    }
+
+    private void schedule(Subscriber subscriber) {
+        if (!subscriber.draining.compareAndSet(false, true))
+            return;
+        try {
+            deliveryExecutor.execute(() -> drain(subscriber));
+        } catch (RejectedExecutionException e) {
+            subscriber.draining.set(false);
+        }
+    }
+
+    private void drain(Subscriber subscriber) {
+        try {
+            Supplier<SseEmitter.SseEventBuilder> event;
+            while ((event = subscriber.poll()) != null)
+                subscriber.emitter.send(event.get());
+        } catch (Exception e) {
+            log.debug("team stream subscriber closed : {}", e.getMessage());
+            subscribers.remove(subscriber);
+            subscriber.emitter.completeWithError(e);
+            return;
+        } finally {
+            subscriber.draining.set(false);
+        }
+        if (!subscriber.isIdle())
+            schedule(subscriber);
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        heartbeatScheduler.shutdownNow();
+        deliveryExecutor.shutdownNow();
+        subscribers.forEach(subscriber -> subscriber.emitter.complete());
+        subscribers.clear();
+    }
+
+    private static class Subscriber {
+        private final SseEmitter emitter;
+        private final Queue<Supplier<SseEmitter.SseEventBuilder>> queue;
+        private final AtomicBoolean draining = new AtomicBoolean(false);
+        private final AtomicBoolean overflowed = new AtomicBoolean(false);
+
+        private Subscriber(SseEmitter emitter, int queueCapacity) {
+            this.emitter = emitter;
+            this.queue = new ArrayBlockingQueue<>(queueCapacity);
+        }
+
+        private boolean offer(Supplier<SseEmitter.SseEventBuilder> event) {
+            if (overflowed.get())
+                return false;
+            if (queue.offer(event))
+                return true;
+            queue.clear();
+            overflowed.set(true);
+            return false;
+        }
+
+        private Supplier<SseEmitter.SseEventBuilder> poll() {
+            Supplier<SseEmitter.SseEventBuilder> event = queue.poll();
+            if (event == null && overflowed.compareAndSet(true, false))
+                return () -> SseEmitter.event().name(EVENT_RESYNC).data("");
+            return event;
+        }
+
+        private boolean isIdle() {
+            return queue.isEmpty() && !overflowed.get();
+        }
+    }
+}
@@ -0,0 +1,22 @@
+package io.seoul.helper.service.batch;
+
+import io.seoul.helper.repository.batch.IdRange;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * A job run by {@link BatchRunner}. Partitions split the range returned by {@link #findPartitionRange},
+ * and each partition reads its items in chunks of ascending ids after the last checkpoint.
+ * {@link #process} is called once per chunk, or once per item when the chunk fails,
+ * so it must skip items that are already done.
+ */
+public interface BatchJob {
+    String getName();
+
+    IdRange findPartitionRange(LocalDateTime cutoffTime);
+
+    List<Long> readChunk(LocalDateTime cutoffTime, IdRange partition, Long lastId, int chunkSize);
+
+    int process(LocalDateTime cutoffTime, List<Long> ids);
+}
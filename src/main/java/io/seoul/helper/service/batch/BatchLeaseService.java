@@ -0,0 +1,82 @@
+package io.seoul.helper.service.batch;
+
+import io.seoul.helper.controller.dto.BatchLeaseResponseDto;
+import io.seoul.helper.repository.batch.BatchLeaseRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.lang.management.ManagementFactory;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.Callable;
+import java.util.stream.Collectors;
+
+/**
+ * Runs a batch on exactly one node. The lease is held until the task ends, or until
+ * lock-at-most-minutes if the node dies, and is kept for at least lock-at-least-seconds
+ * so a node whose clock or cron is slightly behind does not run the same batch again.
+ */
+@Slf4j
+@Service
+public class BatchLeaseService {
+    private final BatchLeaseRepository leaseRepo;
+    private final TransactionTemplate tx;
+    private final String nodeId;
+    private final Duration lockAtMostFor;
+    private final Duration lockAtLeastFor;
+
+    public BatchLeaseService(BatchLeaseRepository leaseRepo, PlatformTransactionManager transactionManager,
+                             @Value("${helper.lease.node-id:}") String nodeId,
+                             @Value("${helper.lease.lock-at-most-minutes:30}") long lockAtMostMinutes,
+                             @Value("${helper.lease.lock-at-least-seconds:0}") long lockAtLeastSeconds) {
+        this.leaseRepo = leaseRepo;
+        this.tx = new TransactionTemplate(transactionManager);
+        this.tx.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        this.nodeId = nodeId.isEmpty() ? ManagementFactory.getRuntimeMXBean().getName() : nodeId;
+        this.lockAtMostFor = Duration.ofMinutes(lockAtMostMinutes);
+        this.lockAtLeastFor = Duration.ofSeconds(lockAtLeastSeconds);
+    }
+
+    public <T> Optional<T> runWithLease(String name, Callable<T> task) throws Exception {
+        LocalDateTime lockedAt = now();
+        Boolean acquired = tx.execute(status ->
+                leaseRepo.tryAcquire(name, lockedAt, lockedAt.plus(lockAtMostFor), nodeId));
+        if (!Boolean.TRUE.equals(acquired)) {
+            log.info("Batch lease {} is held by another node", name);
+            return Optional.empty();
+        }
+        try {
+            return Optional.ofNullable(task.call());
+        } finally {
+            LocalDateTime minimum = lockedAt.plus(lockAtLeastFor);
+            LocalDateTime current = now();
+            LocalDateTime lockUntil = current.isAfter(minimum) ? current : minimum;
+            tx.execute(status -> leaseRepo.release(name, nodeId, lockedAt, lockUntil));
+        }
+    }
+
+    public List<BatchLeaseResponseDto> findLeases() {
+        LocalDateTime current = now();
+        return leaseRepo.findAll().stream()
+                .map(o -> BatchLeaseResponseDto.builder()
+                        .name(o.getName())
+                        .lockedBy(o.getLockedBy())
+                        .lockedAt(o.getLockedAt())
+                        .lockUntil(o.getLockUntil())
+                        .active(o.getLockUntil().isAfter(current))
+                        .owned(nodeId.equals(o.getLockedBy()))
+                        .build())
+                .collect(Collectors.toList());
+    }
+
+    private LocalDateTime now() {
+        return LocalDateTime.now().truncatedTo(ChronoUnit.MILLIS);
+    }
+}
@@ -0,0 +1,190 @@
+package io.seoul.helper.service.batch;
+
+import io.seoul.helper.controller.dto.BatchRunResponseDto;
+import io.seoul.helper.domain.batch.BatchPartition;
+import io.seoul.helper.domain.batch.BatchRun;
+import io.seoul.helper.domain.batch.BatchStatus;
+import io.seoul.helper.repository.batch.BatchPartitionRepository;
+import io.seoul.helper.repository.batch.BatchRunRepository;
+import io.seoul.helper.repository.batch.IdRange;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.annotation.PreDestroy;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.*;
+import java.util.stream.Collectors;
+
+@Slf4j
+@Service
+public class BatchRunner {
+    private final BatchRunRepository runRepo;
+    private final BatchPartitionRepository partitionRepo;
+    private final TransactionTemplate tx;
+    private final ThreadPoolExecutor executor;
+    private final int partitions;
+    private final int chunkSize;
+    private final Set<String> runningJobs = ConcurrentHashMap.newKeySet();
+
+    public BatchRunner(BatchRunRepository runRepo, BatchPartitionRepository partitionRepo,
+                       PlatformTransactionManager transactionManager,
+                       @Value("${helper.batch.partitions:4}") int partitions,
+                       @Value("${helper.batch.pool-size:4}") int poolSize,
+                       @Value("${helper.batch.chunk-size:500}") int chunkSize) {
+        this.runRepo = runRepo;
+        this.partitionRepo = partitionRepo;
+        this.tx = new TransactionTemplate(transactionManager);
+        this.partitions = partitions;
+        this.chunkSize = chunkSize;
+        this.executor = new ThreadPoolExecutor(poolSize, poolSize, 60, TimeUnit.SECONDS,
+                new ArrayBlockingQueue<>(partitions), new CustomizableThreadFactory("batch-"),
+                new ThreadPoolExecutor.CallerRunsPolicy());
+        this.executor.allowCoreThreadTimeOut(true);
+    }
+
+    public BatchRunResponseDto run(BatchJob job, LocalDateTime cutoffTime) throws Exception {
+        if (!runningJobs.add(job.getName()))
+            throw new Exception(String.format("Batch job %s is already running", job.getName()));
+        try {
+            BatchRun previous = tx.execute(status -> runRepo
+                    .findFirstByJobNameAndStatusNotOrderByIdDesc(job.getName(), BatchStatus.COMPLETED)
+                    .map(BatchRun::resume)
+                    .orElse(null));
+            boolean resumed = previous != null;
+            BatchRun run = resumed ? previous : tx.execute(status -> start(job, cutoffTime));
+            List<Long> partitionIds = tx.execute(status -> partitionRepo.findBatchPartitionsByRunOrderByPartitionNo(run)
+                    .stream()
+                    .filter(p -> p.getStatus() != BatchStatus.COMPLETED)
+                    .map(BatchPartition::getId)
+                    .collect(Collectors.toList()));
+            log.info("Batch {} #{} : {} {} partitions", job.getName(), run.getId(),
+                    resumed ? "resuming" : "starting", partitionIds.size());
+
+            List<Future<?>> futures = new ArrayList<>();
+            for (Long partitionId : partitionIds)
+                futures.add(executor.submit(() -> runPartition(job, run.getCutoffTime(), partitionId)));
+            for (Future<?> future : futures) {
+                try {
+                    future.get();
+                } catch (ExecutionException e) {
+                    log.error("Batch {} #{} partition failed : {}", job.getName(), run.getId(),
+                            e.getCause().getMessage());
+                }
+            }
+            return tx.execute(status -> finish(run.getId(), resumed));
+        } finally {
+            runningJobs.remove(job.getName());
+        }
+    }
+
+    private BatchRun start(BatchJob job, LocalDateTime cutoffTime) {
+        BatchRun run = runRepo.save(BatchRun.builder()
+                .jobName(job.getName())
+                .cutoffTime(cutoffTime)
+                .build());
+        IdRange range = job.findPartitionRange(cutoffTime);
+        if (range == null || range.isEmpty())
+            return run;
+        long size = (range.getToId() - range.getFromId()) / partitions + 1;
+        List<BatchPartition> list = new ArrayList<>();
+        for (long fromId = range.getFromId(); fromId <= range.getToId(); fromId += size) {
+            list.add(BatchPartition.builder()
+                    .run(run)
+                    .partitionNo(list.size())
+                    .fromId(fromId)
+                    .toId(Math.min(fromId + size - 1, range.getToId()))
+                    .build());
+        }
+        partitionRepo.saveAll(list);
+        return run;
+    }
+
+    private void runPartition(BatchJob job, LocalDateTime cutoffTime, Long partitionId) {
+        BatchPartition partition = tx.execute(status -> partitionRepo.getById(partitionId).resume());
+        IdRange range = new IdRange(partition.getFromId(), partition.getToId());
+        Long lastId = partition.getLastId();
+        try {
+            while (true) {
+                Long afterId = lastId;
+                List<Long> ids = tx.execute(status -> job.readChunk(cutoffTime, range, afterId, chunkSize));
+                if (ids.isEmpty())
+                    break;
+                processChunk(job, cutoffTime, partitionId, ids);
+                lastId = ids.get(ids.size() - 1);
+                if (ids.size() < chunkSize)
+                    break;
+            }
+            tx.execute(status -> partitionRepo.getById(partitionId).complete());
+        } catch (RuntimeException e) {
+            tx.execute(status -> partitionRepo.getById(partitionId).fail());
+            throw e;
+        }
+    }
+
+    private void processChunk(BatchJob job, LocalDateTime cutoffTime, Long partitionId, List<Long> ids) {
+        Long lastId = ids.get(ids.size() - 1);
+        try {
+            tx.execute(status -> {
+                int processed = job.process(cutoffTime, ids);
+                return partitionRepo.getById(partitionId)
+                        .checkpoint(lastId, processed, ids.size() - processed, 0);
+            });
+            return;
+        } catch (RuntimeException e) {
+            log.warn("Batch {} chunk #{}-#{} failed, retrying item by item : {}",
+                    job.getName(), ids.get(0), lastId, e.getMessage());
+        }
+
+        int processed = 0;
+        int failed = 0;
+        for (Long id : ids) {
+            try {
+                processed += tx.execute(status -> job.process(cutoffTime, Collections.singletonList(id)));
+            } catch (RuntimeException e) {
+                failed++;
+                log.error("Batch {} item #{} failed : {}", job.getName(), id, e.getMessage());
+            }
+        }
+        int processedCount = processed;
+        int failedCount = failed;
+        tx.execute(status -> partitionRepo.getById(partitionId)
+                .checkpoint(lastId, processedCount, ids.size() - processedCount - failedCount, failedCount));
+    }
+
+    private BatchRunResponseDto finish(Long runId, boolean resumed) {
+        BatchRun run = runRepo.getById(runId);
+        List<BatchPartition> list = partitionRepo.findBatchPartitionsByRunOrderByPartitionNo(run);
+        BatchStatus status = list.stream().allMatch(p -> p.getStatus() == BatchStatus.COMPLETED)
+                ? BatchStatus.COMPLETED : BatchStatus.FAILED;
+        run.finish(status,
+                list.stream().mapToLong(BatchPartition::getProcessed).sum(),
+                list.stream().mapToLong(BatchPartition::getSkipped).sum(),
+                list.stream().mapToLong(BatchPartition::getFailed).sum());
+        log.info("Batch {} #{} {} : {} processed, {} skipped, {} failed", run.getJobName(), run.getId(),
+                run.getStatus(), run.getProcessed(), run.getSkipped(), run.getFailed());
+        return BatchRunResponseDto.builder()
+                .runId(run.getId())
+                .jobName(run.getJobName())
+                .status(run.getStatus())
+                .cutoffTime(run.getCutoffTime())
+                .resumed(resumed)
+                .partitionCount(list.size())
+                .processed(run.getProcessed())
+                .skipped(run.getSkipped())
+                .failed(run.getFailed())
+                .build();
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdownNow();
+    }
+}
@@ -0,0 +1,57 @@
+package io.seoul.helper.service.batch;
+
+import io.seoul.helper.domain.review.Review;
+import io.seoul.helper.domain.review.ReviewStatus;
+import io.seoul.helper.repository.batch.IdRange;
+import io.seoul.helper.repository.review.ReviewRepository;
+import io.seoul.helper.service.TeamInnerService;
+import lombok.AllArgsConstructor;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+/**
+ * Partitioned by team id so every review of a team is handled by one partition,
+ * so two partitions never contend for the pending review count of the same team.
+ */
+@Component
+@AllArgsConstructor
+public class ReviewTimeoutBatchJob implements BatchJob {
+    public static final String NAME = "review-timeout";
+
+    private final ReviewRepository reviewRepo;
+    private final TeamInnerService teamInnerService;
+
+    @Override
+    public String getName() {
+        return NAME;
+    }
+
+    @Override
+    public IdRange findPartitionRange(LocalDateTime cutoffTime) {
+        return reviewRepo.findTeamIdRangeByStatusAndCreatedBefore(ReviewStatus.WAIT, cutoffTime);
+    }
+
+    @Override
+    public List<Long> readChunk(LocalDateTime cutoffTime, IdRange partition, Long lastId, int chunkSize) {
+        return reviewRepo.findReviewIdsByStatusAndCreatedBeforeAndTeamIdRange(ReviewStatus.WAIT, cutoffTime,
+                partition.getFromId(), partition.getToId(), lastId, PageRequest.of(0, chunkSize));
+    }
+
+    @Override
+    public int process(LocalDateTime cutoffTime, List<Long> ids) {
+        List<Review> reviews = reviewRepo.findAllById(ids).stream()
+                .filter(r -> r.getStatus() == ReviewStatus.WAIT && !r.getCreated().isAfter(cutoffTime))
+                .collect(Collectors.toList());
+        Map<Long, Integer> reviewCounts = reviews.stream()
+                .map(Review::timeout)
+                .collect(Collectors.groupingBy(r -> r.getTeam().getId(), Collectors.summingInt(r -> 1)));
+        reviewRepo.saveAll(reviews);
+        teamInnerService.completeReviews(reviewCounts);
+        return reviews.size();
+    }
+}
@@ -0,0 +1,18 @@
+package io.seoul.helper.service.event;
+
+import lombok.Getter;
+
+@Getter
+public class TeamChangedEvent {
+    private final Long teamId;
+    private final Long userId;
+
+    public TeamChangedEvent(Long teamId) {
+        this(teamId, null);
+    }
+
+    public TeamChangedEvent(Long teamId, Long userId) {
+        this.teamId = teamId;
+        this.userId = userId;
+    }
+}
@@ -0,0 +1,12 @@
+package io.seoul.helper.service.event;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+import java.util.List;
+
+@Getter
+@RequiredArgsConstructor
+public class TeamsChangedEvent {
+    private final List<Long> teamIds;
+}
@@ -0,0 +1 @@
+-- mail_outbox : BaseTime columns are already timestamp on h2, kept so versions match mariadb
@@ -0,0 +1,19 @@
+-- member : nickname EXISTS filter, findMemberByTeamAndUser (member(team_id) is covered by FK_MEMBER_TEAM)
+create index IDX_MEMBER_USER_TEAM on member (user_id, team_id);
+
+-- team : active list pages (status + start_time), timeout batch (status + end_time)
+create index IDX_TEAM_STATUS_START_TIME on team (status, start_time);
+create index IDX_TEAM_STATUS_END_TIME on team (status, end_time);
+
+-- review : findReviewByTeamAndUser, timeout batch, settle candidate list
+create index IDX_REVIEW_TEAM_USER on review (team_id, user_id);
+create index IDX_REVIEW_STATUS_CREATED on review (status, created);
+create index IDX_REVIEW_STATUS_UPDATED on review (status, updated);
+
+-- settle : settle lookup by review, unpaid settle list
+create index IDX_SETTLE_REVIEW on settle (review_id);
+create index IDX_SETTLE_STATUS_WALLET_PAID on settle (status, wallet_paid);
+
+-- user : session lookup on every request, OAuth login
+create index IDX_USER_NICKNAME on user (nickname);
+create index IDX_USER_EMAIL on user (email);
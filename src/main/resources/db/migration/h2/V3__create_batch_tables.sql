@@ -0,0 +1,33 @@
+create table batch_run
+(
+    id          bigint generated by default as identity,
+    job_name    varchar(255) not null,
+    status      varchar(255) not null,
+    cutoff_time timestamp    not null,
+    processed   bigint       not null,
+    skipped     bigint       not null,
+    failed      bigint       not null,
+    created     timestamp,
+    updated     timestamp,
+    primary key (id)
+);
+create table batch_partition
+(
+    id           bigint generated by default as identity,
+    run_id       bigint       not null,
+    partition_no int          not null,
+    from_id      bigint       not null,
+    to_id        bigint       not null,
+    last_id      bigint       not null,
+    status       varchar(255) not null,
+    processed    bigint       not null,
+    skipped      bigint       not null,
+    failed       bigint       not null,
+    created      timestamp,
+    updated      timestamp,
+    primary key (id)
+);
+alter table batch_partition
+    add constraint FK_BATCH_PARTITION_RUN foreign key (run_id) references batch_run;
+
+CREATE INDEX IDX_BATCH_RUN_JOB_STATUS ON batch_run (job_name, status);
@@ -0,0 +1,6 @@
+alter table team
+    add column pending_review_count int default 0 not null;
+
+update team
+set pending_review_count = (select count(*) from review r where r.team_id = team.id and r.status = 'WAIT')
+where status = 'REVIEW';
@@ -0,0 +1,8 @@
+create table batch_lease
+(
+    name       varchar(64)  not null,
+    lock_until timestamp    not null,
+    locked_at  timestamp    not null,
+    locked_by  varchar(255) not null,
+    primary key (name)
+);
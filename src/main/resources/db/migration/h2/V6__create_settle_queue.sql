@@ -0,0 +1,31 @@
+create table settle_queue
+(
+    id        bigint generated by default as identity,
+    review_id bigint not null,
+    created   timestamp,
+    updated   timestamp,
+    primary key (id)
+);
+alter table settle_queue
+    add constraint UK_SETTLE_QUEUE_REVIEW unique (review_id);
+alter table settle_queue
+    add constraint FK_SETTLE_QUEUE_REVIEW foreign key (review_id) references review on delete cascade;
+create index IDX_SETTLE_QUEUE_CREATED on settle_queue (created);
+
+create table queue_counter
+(
+    name    varchar(64) not null,
+    pending bigint      not null,
+    primary key (name)
+);
+
+insert into settle_queue (review_id, created, updated)
+select r.id, r.updated, r.updated
+from review r
+         left join settle s on s.review_id = r.id
+where s.id is null
+  and r.status = 'UPDATED';
+
+insert into queue_counter (name, pending)
+select 'settle', count(*)
+from settle_queue;
@@ -0,0 +1,9 @@
+create table idempotency_record
+(
+    scope        varchar(64)  not null,
+    request_key  varchar(128) not null,
+    request_hash varchar(64)  not null,
+    response     clob,
+    created      timestamp    not null,
+    primary key (scope, request_key)
+);
@@ -0,0 +1,16 @@
+create table mail_outbox
+(
+    id              bigint generated by default as identity,
+    recipient       varchar(255) not null,
+    subject         varchar(255) not null,
+    content         clob         not null,
+    status          varchar(32)  not null,
+    attempts        integer      not null,
+    next_attempt_at timestamp    not null,
+    last_error      varchar(1000),
+    sent_at         timestamp,
+    created         timestamp,
+    updated         timestamp,
+    primary key (id)
+);
+create index IDX_MAIL_OUTBOX_STATUS_NEXT_ATTEMPT on mail_outbox (status, next_attempt_at);
@@ -0,0 +1,4 @@
+-- mail_outbox : BaseTime columns use timestamp like every other table
+ALTER TABLE `mail_outbox`
+    MODIFY `created` timestamp NULL,
+    MODIFY `updated` timestamp NULL;
@@ -0,0 +1,19 @@
+-- member : nickname EXISTS filter, findMemberByTeamAndUser (member(team_id) is covered by FK_MEMBER_TEAM)
+CREATE INDEX IDX_MEMBER_USER_TEAM ON member (user_id, team_id);
+
+-- team : active list pages (status + start_time), timeout batch (status + end_time)
+CREATE INDEX IDX_TEAM_STATUS_START_TIME ON team (status, start_time);
+CREATE INDEX IDX_TEAM_STATUS_END_TIME ON team (status, end_time);
+
+-- review : findReviewByTeamAndUser, timeout batch, settle candidate list
+CREATE INDEX IDX_REVIEW_TEAM_USER ON review (team_id, user_id);
+CREATE INDEX IDX_REVIEW_STATUS_CREATED ON review (status, created);
+CREATE INDEX IDX_REVIEW_STATUS_UPDATED ON review (status, updated);
+
+-- settle : settle lookup by review, unpaid settle list
+CREATE INDEX IDX_SETTLE_REVIEW ON settle (review_id);
+CREATE INDEX IDX_SETTLE_STATUS_WALLET_PAID ON settle (status, wallet_paid);
+
+-- user : session lookup on every request, OAuth login
+CREATE INDEX IDX_USER_NICKNAME ON `user` (nickname);
+CREATE INDEX IDX_USER_EMAIL ON `user` (email);
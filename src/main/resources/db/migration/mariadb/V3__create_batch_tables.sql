@@ -0,0 +1,37 @@
+CREATE TABLE `batch_run`
+(
+    `id`          bigint(20) NOT NULL AUTO_INCREMENT,
+    `job_name`    varchar(255) COLLATE utf8mb4_unicode_ci NOT NULL,
+    `status`      varchar(255) COLLATE utf8mb4_unicode_ci NOT NULL,
+    `cutoff_time` datetime(6)                             NOT NULL,
+    `processed`   bigint(20)                              NOT NULL,
+    `skipped`     bigint(20)                              NOT NULL,
+    `failed`      bigint(20)                              NOT NULL,
+    `created`     timestamp,
+    `updated`     timestamp,
+    PRIMARY KEY (`id`),
+    KEY `IDX_BATCH_RUN_JOB_STATUS` (`job_name`, `status`)
+) ENGINE = InnoDB
+  DEFAULT CHARSET = utf8mb4
+  COLLATE = utf8mb4_unicode_ci;
+
+CREATE TABLE `batch_partition`
+(
+    `id`           bigint(20) NOT NULL AUTO_INCREMENT,
+    `run_id`       bigint(20)                              NOT NULL,
+    `partition_no` int(11)                                 NOT NULL,
+    `from_id`      bigint(20)                              NOT NULL,
+    `to_id`        bigint(20)                              NOT NULL,
+    `last_id`      bigint(20)                              NOT NULL,
+    `status`       varchar(255) COLLATE utf8mb4_unicode_ci NOT NULL,
+    `processed`    bigint(20)                              NOT NULL,
+    `skipped`      bigint(20)                              NOT NULL,
+    `failed`       bigint(20)                              NOT NULL,
+    `created`      timestamp,
+    `updated`      timestamp,
+    PRIMARY KEY (`id`),
+    KEY `FK_BATCH_PARTITION_RUN` (`run_id`),
+    CONSTRAINT `FK_BATCH_PARTITION_RUN` FOREIGN KEY (`run_id`) REFERENCES `batch_run` (`id`)
+) ENGINE = InnoDB
+  DEFAULT CHARSET = utf8mb4
+  COLLATE = utf8mb4_unicode_ci;
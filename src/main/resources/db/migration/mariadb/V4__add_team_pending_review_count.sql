@@ -0,0 +1,6 @@
+ALTER TABLE `team`
+    ADD COLUMN `pending_review_count` int(11) NOT NULL DEFAULT 0;
+
+UPDATE `team` t
+SET t.`pending_review_count` = (SELECT count(*) FROM `review` r WHERE r.`team_id` = t.`id` AND r.`status` = 'WAIT')
+WHERE t.`status` = 'REVIEW';
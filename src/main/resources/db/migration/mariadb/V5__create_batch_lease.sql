@@ -0,0 +1,10 @@
+CREATE TABLE `batch_lease`
+(
+    `name`       varchar(64) COLLATE utf8mb4_unicode_ci  NOT NULL,
+    `lock_until` datetime(6)                             NOT NULL,
+    `locked_at`  datetime(6)                             NOT NULL,
+    `locked_by`  varchar(255) COLLATE utf8mb4_unicode_ci NOT NULL,
+    PRIMARY KEY (`name`)
+) ENGINE = InnoDB
+  DEFAULT CHARSET = utf8mb4
+  COLLATE = utf8mb4_unicode_ci;
@@ -0,0 +1,33 @@
+CREATE TABLE `settle_queue`
+(
+    `id`        bigint(20) NOT NULL AUTO_INCREMENT,
+    `review_id` bigint(20) NOT NULL,
+    `created`   timestamp,
+    `updated`   timestamp,
+    PRIMARY KEY (`id`),
+    UNIQUE KEY `UK_SETTLE_QUEUE_REVIEW` (`review_id`),
+    KEY `IDX_SETTLE_QUEUE_CREATED` (`created`),
+    CONSTRAINT `FK_SETTLE_QUEUE_REVIEW` FOREIGN KEY (`review_id`) REFERENCES `review` (`id`) ON DELETE CASCADE
+) ENGINE = InnoDB
+  DEFAULT CHARSET = utf8mb4
+  COLLATE = utf8mb4_unicode_ci;
+
+CREATE TABLE `queue_counter`
+(
+    `name`    varchar(64) COLLATE utf8mb4_unicode_ci NOT NULL,
+    `pending` bigint(20)                             NOT NULL,
+    PRIMARY KEY (`name`)
+) ENGINE = InnoDB
+  DEFAULT CHARSET = utf8mb4
+  COLLATE = utf8mb4_unicode_ci;
+
+INSERT INTO `settle_queue` (`review_id`, `created`, `updated`)
+SELECT r.`id`, r.`updated`, r.`updated`
+FROM `review` r
+         LEFT JOIN `settle` s ON s.`review_id` = r.`id`
+WHERE s.`id` IS NULL
+  AND r.`status` = 'UPDATED';
+
+INSERT INTO `queue_counter` (`name`, `pending`)
+SELECT 'settle', count(*)
+FROM `settle_queue`;
@@ -0,0 +1,11 @@
+CREATE TABLE `idempotency_record`
+(
+    `scope`        varchar(64) COLLATE utf8mb4_unicode_ci  NOT NULL,
+    `request_key`  varchar(128) COLLATE utf8mb4_unicode_ci NOT NULL,
+    `request_hash` varchar(64) COLLATE utf8mb4_unicode_ci  NOT NULL,
+    `response`     longtext COLLATE utf8mb4_unicode_ci,
+    `created`      datetime(6)                             NOT NULL,
+    PRIMARY KEY (`scope`, `request_key`)
+) ENGINE = InnoDB
+  DEFAULT CHARSET = utf8mb4
+  COLLATE = utf8mb4_unicode_ci;
@@ -0,0 +1,18 @@
+CREATE TABLE `mail_outbox`
+(
+    `id`              bigint(20)                               NOT NULL AUTO_INCREMENT,
+    `recipient`       varchar(255) COLLATE utf8mb4_unicode_ci  NOT NULL,
+    `subject`         varchar(255) COLLATE utf8mb4_unicode_ci  NOT NULL,
+    `content`         longtext COLLATE utf8mb4_unicode_ci      NOT NULL,
+    `status`          varchar(32) COLLATE utf8mb4_unicode_ci   NOT NULL,
+    `attempts`        int(11)                                  NOT NULL,
+    `next_attempt_at` datetime(6)                              NOT NULL,
+    `last_error`      varchar(1000) COLLATE utf8mb4_unicode_ci,
+    `sent_at`         datetime(6),
+    `created`         datetime(6),
+    `updated`         datetime(6),
+    PRIMARY KEY (`id`),
+    KEY `IDX_MAIL_OUTBOX_STATUS_NEXT_ATTEMPT` (`status`, `next_attempt_at`)
+) ENGINE = InnoDB
+  DEFAULT CHARSET = utf8mb4
+  COLLATE = utf8mb4_unicode_ci;
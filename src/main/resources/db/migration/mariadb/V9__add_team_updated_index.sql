@@ -0,0 +1,2 @@
+-- team : read model staleness check (max(updated) and rows changed since the last check)
+CREATE INDEX IDX_TEAM_UPDATED ON team (updated);
@@ -0,0 +1,89 @@
+package io.seoul.helper.config.auth;
+
+import io.seoul.helper.domain.user.Role;
+import lombok.extern.slf4j.Slf4j;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.security.core.context.SecurityContext;
+import org.springframework.security.core.context.SecurityContextImpl;
+import org.springframework.security.web.FilterChainProxy;
+import org.springframework.security.web.context.HttpSessionSecurityContextRepository;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.request.MockHttpServletRequestBuilder;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+import org.springframework.web.context.WebApplicationContext;
+
+import java.util.Collections;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+
+/**
+ * Runs requests through the security filter chain with a hand-made session login. Only read-only
+ * requests are let through as ADMIN, so no batch actually runs.
+ */
+@Slf4j
+@SpringBootTest
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+@TestPropertySource(locations = "classpath:application.yaml")
+public class WebSecurityConfigTest {
+    @Autowired
+    private WebApplicationContext context;
+
+    @Autowired
+    private FilterChainProxy springSecurityFilterChain;
+
+    private MockMvc mockMvc;
+
+    @BeforeAll
+    public void setup() {
+        mockMvc = MockMvcBuilders.webAppContextSetup(context)
+                .addFilters(springSecurityFilterChain)
+                .build();
+    }
+
+    @Test
+    public void pendingReviewRepairTest() throws Exception {
+        MockHttpServletRequestBuilder repair = post("/api/v1/batch/teams/pending-review/repair");
+
+        assertRedirectedToLogin(perform(repair, null));
+        assertEquals(403, perform(repair, Role.USER));
+    }
+
+    @Test
+    public void settleQueueRepairTest() throws Exception {
+        MockHttpServletRequestBuilder repair = post("/api/v1/batch/settle-queue/repair");
+
+        assertRedirectedToLogin(perform(repair, null));
+        assertEquals(403, perform(repair, Role.USER));
+    }
+
+    @Test
+    public void leasesTest() throws Exception {
+        MockHttpServletRequestBuilder leases = get("/api/v1/batch/leases");
+
+        assertRedirectedToLogin(perform(leases, null));
+        assertEquals(403, perform(leases, Role.USER));
+        assertEquals(200, perform(get("/api/v1/batch/leases"), Role.ADMIN));
+    }
+
+    private int perform(MockHttpServletRequestBuilder request, Role role) throws Exception {
+        if (role != null) {
+            SecurityContext securityContext = new SecurityContextImpl(new UsernamePasswordAuthenticationToken(
+                    "tester", null, Collections.singletonList(new SimpleGrantedAuthority(role.getKey()))));
+            request.sessionAttr(HttpSessionSecurityContextRepository.SPRING_SECURITY_CONTEXT_KEY, securityContext);
+        }
+        return mockMvc.perform(request).andReturn().getResponse().getStatus();
+    }
+
+    private void assertRedirectedToLogin(int status) {
+        assertEquals(302, status, "fail : anonymous request was not sent to login");
+    }
+}
@@ -0,0 +1,145 @@
+package io.seoul.helper.repository;
+
+import io.seoul.helper.domain.review.ReviewStatus;
+import io.seoul.helper.domain.settle.SettleStatus;
+import io.seoul.helper.domain.team.TeamStatus;
+import io.seoul.helper.repository.member.MemberRepository;
+import io.seoul.helper.repository.review.ReviewRepository;
+import io.seoul.helper.repository.settle.SettleRepository;
+import io.seoul.helper.repository.team.TeamCursor;
+import io.seoul.helper.repository.team.TeamRepository;
+import io.seoul.helper.repository.user.UserRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+import org.junit.jupiter.api.TestInstance;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+
+/**
+ * Runs the hot repository methods and EXPLAINs the SQL Hibernate actually sent, so paging,
+ * ORDER BY, seek and EXISTS clauses are checked as generated instead of as hand-written copies.
+ */
+@Slf4j
+@SpringBootTest(properties = "spring.jpa.properties.hibernate.session_factory.statement_inspector=" +
+        "io.seoul.helper.repository.QueryPlanTest$CapturedSql")
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+@TestPropertySource(locations = "classpath:application.yaml")
+public class QueryPlanTest {
+    private static final List<TeamStatus> LIST_STATUS = Arrays.asList(
+            TeamStatus.WAITING, TeamStatus.READY, TeamStatus.FULL);
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Autowired
+    private TeamRepository teamRepo;
+
+    @Autowired
+    private MemberRepository memberRepo;
+
+    @Autowired
+    private UserRepository userRepo;
+
+    @Autowired
+    private ReviewRepository reviewRepo;
+
+    @Autowired
+    private SettleRepository settleRepo;
+
+    public static class CapturedSql implements StatementInspector {
+        private static final List<String> statements = Collections.synchronizedList(new ArrayList<>());
+
+        @Override
+        public String inspect(String sql) {
+            statements.add(sql);
+            return sql;
+        }
+    }
+
+    private Stream<Arguments> hotQueries() {
+        LocalDateTime from = LocalDateTime.of(2022, 8, 1, 0, 0);
+        return Stream.of(
+                Arguments.of("TeamRepository : list pages", (Runnable) () ->
+                        teamRepo.findTeamIdsByQueryParameters(from, null, LIST_STATUS, null,
+                                PageRequest.of(0, 10, Sort.Direction.DESC, TeamCursor.SORT_START_TIME))),
+                Arguments.of("TeamRepository : nickname EXISTS filter", (Runnable) () ->
+                        teamRepo.findTeamIdsByMemberNickname(from, null, LIST_STATUS, null, "test1", false, null,
+                                PageRequest.of(0, 10, Sort.Direction.DESC, TeamCursor.SORT_START_TIME))),
+                Arguments.of("TeamRepository : seek", (Runnable) () ->
+                        teamRepo.findTeamIdsBySeek(from, null, LIST_STATUS, null, null, null, false, null,
+                                new TeamCursor(TeamCursor.SORT_START_TIME, false, from.plusDays(10), 8L), 10)),
+                Arguments.of("TeamRepository : timeout batch", (Runnable) () ->
+                        teamRepo.findTeamIdsByStatusAndEndTimeBefore(TeamStatus.WAITING, from.plusDays(9), 0L,
+                                PageRequest.of(0, 100))),
+                Arguments.of("MemberRepository : findMemberByTeamAndUser", (Runnable) () ->
+                        memberRepo.findMemberByTeamAndUser(teamRepo.getById(1L), userRepo.getById(1L))),
+                Arguments.of("MemberRepository : findMembersByTeam", (Runnable) () ->
+                        memberRepo.findMembersByTeam(teamRepo.getById(1L))),
+                Arguments.of("UserRepository : findUserByNickname", (Runnable) () ->
+                        userRepo.findUserByNickname("test1")),
+                Arguments.of("UserRepository : findUserByEmail", (Runnable) () ->
+                        userRepo.findUserByEmail("tester001@gmail.com")),
+                Arguments.of("ReviewRepository : findReviewByTeamAndUser", (Runnable) () ->
+                        reviewRepo.findReviewByTeamAndUser(teamRepo.getById(11L), userRepo.getById(1L))),
+                Arguments.of("ReviewRepository : findReviewIdsByStatusAndCreatedBefore", (Runnable) () ->
+                        reviewRepo.findReviewIdsByStatusAndCreatedBefore(ReviewStatus.WAIT,
+                                LocalDateTime.of(2021, 10, 8, 0, 0))),
+                Arguments.of("SettleRepository : findSettleSummariesByStatusInAndWalletPaid", (Runnable) () -> {
+                    try (Stream<?> summaries = settleRepo.findSettleSummariesByStatusInAndWalletPaid(
+                            Collections.singletonList(SettleStatus.PASS), false)) {
+                        summaries.count();
+                    }
+                })
+        );
+    }
+
+    @ParameterizedTest(name = "{0}")
+    @MethodSource("hotQueries")
+    public void hotQueryUsesIndexTest(String name, Runnable query) {
+        List<String> statements = capture(query);
+        assertFalse(statements.isEmpty(), "fail : no select captured for " + name);
+        for (String sql : statements) {
+            Object[] args = new Object[(int) sql.chars().filter(c -> c == '?').count()];
+            String plan = jdbcTemplate.queryForObject("EXPLAIN " + sql, String.class, args);
+            log.info("{} plan : {}", name, plan);
+            assertFalse(plan.contains(".tableScan"), "fail : hot query falls back to a table scan\n" + plan);
+        }
+    }
+
+    private List<String> capture(Runnable query) {
+        TransactionTemplate tx = new TransactionTemplate(transactionManager);
+        tx.setReadOnly(true);
+        synchronized (CapturedSql.statements) {
+            CapturedSql.statements.clear();
+        }
+        tx.executeWithoutResult(status -> query.run());
+        synchronized (CapturedSql.statements) {
+            return CapturedSql.statements.stream()
+                    .filter(sql -> sql.trim().toLowerCase().startsWith("select"))
+                    .distinct()
+                    .collect(Collectors.toList());
+        }
+    }
+}
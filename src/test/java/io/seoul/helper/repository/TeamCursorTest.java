@@ -0,0 +1,73 @@
+package io.seoul.helper.repository;
+
+import io.seoul.helper.repository.team.TeamCursor;
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.Base64;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class TeamCursorTest {
+    private static final String START_TIME_ASC = TeamCursor.SORT_START_TIME + ",asc";
+
+    @Test
+    public void encodeDecodeTest() {
+        TeamCursor cursor = new TeamCursor(TeamCursor.SORT_START_TIME, true,
+                LocalDateTime.of(2022, 8, 4, 13, 0), 4L);
+
+        TeamCursor decoded = TeamCursor.of(START_TIME_ASC, cursor.encode());
+
+        assertEquals(TeamCursor.SORT_START_TIME, decoded.getSortKey());
+        assertTrue(decoded.isAscending());
+        assertEquals(cursor.getStartTime(), decoded.getStartTime());
+        assertEquals(4L, decoded.getId());
+        assertFalse(decoded.isFirst());
+    }
+
+    @Test
+    public void encodeDecodeIdTest() {
+        TeamCursor cursor = new TeamCursor(TeamCursor.SORT_ID, false, null, 8L);
+
+        TeamCursor decoded = TeamCursor.of(TeamCursor.SORT_ID, cursor.encode());
+
+        assertFalse(decoded.isAscending());
+        assertNull(decoded.getStartTime());
+        assertEquals(8L, decoded.getId());
+    }
+
+    @Test
+    public void firstPageTest() {
+        assertTrue(TeamCursor.of(START_TIME_ASC, null).isFirst());
+        assertTrue(TeamCursor.of(START_TIME_ASC, "").isFirst());
+    }
+
+    @Test
+    public void malformedCursorTest() {
+        assertThrows(IllegalArgumentException.class, () -> TeamCursor.of(START_TIME_ASC, "not base64!"));
+        assertThrows(IllegalArgumentException.class, () -> TeamCursor.of(START_TIME_ASC, encode("garbage")));
+        assertThrows(IllegalArgumentException.class, () -> TeamCursor.of("subject,asc", null));
+    }
+
+    @Test
+    public void tamperedCursorTest() {
+        String start = TeamCursor.SORT_START_TIME + "|true|";
+        assertThrows(IllegalArgumentException.class, () -> TeamCursor.of(START_TIME_ASC, encode(start + "2022-13-40T25:00|4")));
+        assertThrows(IllegalArgumentException.class, () -> TeamCursor.of(START_TIME_ASC, encode(start + "2022-08-04T13:00|x")));
+        assertThrows(IllegalArgumentException.class, () -> TeamCursor.of(START_TIME_ASC, encode(start + "|4")));
+        assertThrows(IllegalArgumentException.class, () -> TeamCursor.of(START_TIME_ASC, encode(start + "2022-08-04T13:00|4|5")));
+    }
+
+    @Test
+    public void cursorForOtherSortTest() {
+        String after = new TeamCursor(TeamCursor.SORT_START_TIME, true, LocalDateTime.of(2022, 8, 4, 13, 0), 4L).encode();
+
+        assertThrows(IllegalArgumentException.class, () -> TeamCursor.of(TeamCursor.SORT_START_TIME + ",desc", after));
+        assertThrows(IllegalArgumentException.class, () -> TeamCursor.of(TeamCursor.SORT_ID + ",asc", after));
+    }
+
+    private String encode(String token) {
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(token.getBytes(StandardCharsets.UTF_8));
+    }
+}
@@ -0,0 +1,140 @@
+package io.seoul.helper.service;
+
+import io.seoul.helper.config.auth.dto.SessionUser;
+import io.seoul.helper.controller.member.dto.MemberRequestDto;
+import io.seoul.helper.controller.member.dto.MemberResponseDto;
+import io.seoul.helper.controller.team.dto.TeamListRequestDto;
+import io.seoul.helper.controller.team.dto.TeamResponseDto;
+import io.seoul.helper.domain.member.Member;
+import io.seoul.helper.domain.member.MemberRole;
+import io.seoul.helper.domain.team.Period;
+import io.seoul.helper.domain.team.Team;
+import io.seoul.helper.domain.team.TeamLocation;
+import io.seoul.helper.domain.team.TeamStatus;
+import io.seoul.helper.repository.member.MemberRepository;
+import io.seoul.helper.repository.project.ProjectRepository;
+import io.seoul.helper.repository.team.TeamRepository;
+import io.seoul.helper.repository.user.UserRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.junit.jupiter.api.*;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * The read model under test is built by hand and gets no AFTER_COMMIT events, like a model on
+ * another node, so it only sees the writes below through its staleness check.
+ */
+@Slf4j
+@SpringBootTest
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+@TestMethodOrder(MethodOrderer.OrderAnnotation.class)
+@TestPropertySource(locations = "classpath:application.yaml")
+public class ActiveTeamReadModelTest {
+    @Autowired
+    private MemberService memberService;
+
+    @Autowired
+    private TeamRepository teamRepo;
+
+    @Autowired
+    private MemberRepository memberRepo;
+
+    @Autowired
+    private UserRepository userRepo;
+
+    @Autowired
+    private ProjectRepository projectRepo;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    private ActiveTeamReadModel otherNode;
+    private Team team;
+
+    @BeforeAll
+    public void setup() {
+        LocalDateTime start = LocalDateTime.of(2099, 1, 1, 13, 0);
+        team = teamRepo.save(Team.builder()
+                .period(Period.builder().startTime(start).endTime(start.plusHours(2)).build())
+                .maxMemberCount(10L)
+                .location(TeamLocation.ONLINE)
+                .status(TeamStatus.READY)
+                .project(projectRepo.getById(1L))
+                .subject("TEST READ MODEL")
+                .description("TEST READ MODEL")
+                .build());
+        memberRepo.save(Member.builder()
+                .team(team)
+                .user(userRepo.getById(3L))
+                .role(MemberRole.MENTOR)
+                .creator(true)
+                .build());
+        otherNode = new ActiveTeamReadModel(teamRepo, transactionManager, true, 0, 10);
+        otherNode.load();
+    }
+
+    @AfterAll
+    public void cleanup() {
+        otherNode.shutdown();
+        memberRepo.deleteAll(memberRepo.findMembersByTeam(team));
+        teamRepo.deleteById(team.getId());
+    }
+
+    @Test
+    @Order(1)
+    public void memberJoinTest() throws Exception {
+        assertEquals(Collections.singletonList("test3"), nicknames());
+
+        memberService.joinTeam(new SessionUser(userRepo.findById(6L).orElseThrow(IllegalStateException::new)),
+                MemberRequestDto.builder().teamId(team.getId()).role(MemberRole.MENTEE).build());
+        assertEquals(TeamStatus.READY, teamRepo.findById(team.getId()).map(Team::getStatus).orElse(null));
+        assertEquals(Arrays.asList("test3", "test6"), nicknames());
+    }
+
+    @Test
+    @Order(2)
+    public void memberOutTest() throws Exception {
+        memberService.outTeam(new SessionUser(userRepo.findById(6L).orElseThrow(IllegalStateException::new)),
+                MemberRequestDto.builder().teamId(team.getId()).build());
+        assertEquals(Collections.singletonList("test3"), nicknames());
+    }
+
+    @Test
+    @Order(3)
+    public void statusChangeTest() {
+        new TransactionTemplate(transactionManager).execute(status -> teamRepo.updateTeamStatusByIdIn(
+                Collections.singletonList(team.getId()), TeamStatus.READY, TeamStatus.REVOKE, LocalDateTime.now()));
+        assertFalse(find().isPresent());
+    }
+
+    private List<String> nicknames() {
+        return find().orElseThrow(() -> new AssertionError("fail : team is not in the read model"))
+                .getMembers().stream()
+                .map(MemberResponseDto::getNickname)
+                .sorted()
+                .collect(Collectors.toList());
+    }
+
+    private Optional<TeamResponseDto> find() {
+        TeamListRequestDto dto = new TeamListRequestDto();
+        dto.setLimit(100);
+        dto.setStatusList(Arrays.asList(TeamStatus.WAITING, TeamStatus.READY, TeamStatus.FULL));
+        dto.setStartTimePrevious(LocalDateTime.now());
+        ActiveTeamPage page = otherNode.findTeams(dto).orElseThrow(IllegalStateException::new);
+        return page.getTeams().stream()
+                .filter(t -> t.getTeamId().equals(team.getId()))
+                .findFirst();
+    }
+}
@@ -0,0 +1,151 @@
+package io.seoul.helper.service;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import io.seoul.helper.domain.team.Period;
+import io.seoul.helper.domain.team.Team;
+import io.seoul.helper.domain.team.TeamLocation;
+import io.seoul.helper.domain.team.TeamStatus;
+import io.seoul.helper.repository.project.ProjectRepository;
+import io.seoul.helper.repository.review.ReviewRepository;
+import io.seoul.helper.repository.team.TeamRepository;
+import io.seoul.helper.service.batch.BatchLeaseService;
+import io.seoul.helper.service.event.TeamChangedEvent;
+import lombok.extern.slf4j.Slf4j;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.function.BooleanSupplier;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.mock;
+
+/**
+ * The scheduler under test is enabled and built by hand with a one minute sweep, so its horizon
+ * is two minutes. Reviews are left to a mock, since only team deadlines are checked here. The
+ * first sweep times out the seeded WAITING teams that are already past their end; they are put
+ * back afterwards.
+ */
+@Slf4j
+@SpringBootTest
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+@TestPropertySource(locations = "classpath:application.yaml")
+public class DeadlineSchedulerTest {
+    private static final long TIMEOUT_SECONDS = 15;
+
+    @Autowired
+    private TeamRepository teamRepo;
+
+    @Autowired
+    private ReviewRepository reviewRepo;
+
+    @Autowired
+    private ProjectRepository projectRepo;
+
+    @Autowired
+    private TeamBatchService teamBatchService;
+
+    @Autowired
+    private BatchLeaseService batchLeaseService;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private SimpleMeterRegistry meterRegistry;
+    private DeadlineScheduler scheduler;
+    private List<Long> seededExpired;
+    private Team expiring;
+    private Team statusChanged;
+    private Team extended;
+    private Team beyondHorizon;
+
+    @BeforeAll
+    public void setup() {
+        LocalDateTime now = LocalDateTime.now();
+        seededExpired = teamRepo.findTeamIdsByStatusAndEndTimeBefore(TeamStatus.WAITING, now, 0L, Pageable.unpaged());
+        expiring = createTeam(now.plusSeconds(4));
+        statusChanged = createTeam(now.plusSeconds(4));
+        extended = createTeam(now.plusSeconds(4));
+        beyondHorizon = createTeam(now.plusMinutes(3));
+
+        meterRegistry = new SimpleMeterRegistry();
+        scheduler = new DeadlineScheduler(teamRepo, reviewRepo, teamBatchService, mock(ReviewService.class),
+                batchLeaseService, transactionManager, meterRegistry, true, 1);
+        scheduler.start();
+    }
+
+    @AfterAll
+    public void cleanup() {
+        scheduler.shutdown();
+        teamRepo.deleteAll(Arrays.asList(expiring, statusChanged, extended, beyondHorizon));
+        new TransactionTemplate(transactionManager).execute(status -> teamRepo.updateTeamStatusByIdIn(
+                seededExpired, TeamStatus.TIMEOUT, TeamStatus.WAITING, LocalDateTime.now()));
+    }
+
+    @Test
+    public void expireOnceTest() throws Exception {
+        await(() -> scheduler.isScheduled(expiring.getId()));
+        assertTrue(scheduler.isScheduled(statusChanged.getId()));
+        assertTrue(scheduler.isScheduled(extended.getId()));
+        assertFalse(scheduler.isScheduled(beyondHorizon.getId()));
+        seededExpired.forEach(id -> assertEquals(TeamStatus.TIMEOUT, status(id)));
+
+        scheduler.sweep();
+        scheduler.onTeamChanged(new TeamChangedEvent(expiring.getId()));
+
+        new TransactionTemplate(transactionManager).execute(status -> teamRepo.updateTeamStatusByIdIn(
+                Arrays.asList(statusChanged.getId()), TeamStatus.WAITING, TeamStatus.READY, LocalDateTime.now()));
+        jdbcTemplate.update("UPDATE team SET end_time = ? WHERE id = ?",
+                LocalDateTime.now().plusSeconds(90), extended.getId());
+        scheduler.onTeamChanged(new TeamChangedEvent(extended.getId()));
+
+        await(() -> status(expiring.getId()) == TeamStatus.TIMEOUT);
+        await(() -> !scheduler.isScheduled(statusChanged.getId()));
+        Thread.sleep(1000);
+        scheduler.sweep();
+
+        assertEquals(1.0, meterRegistry.counter("deadline.fired", "kind", "TEAM").count());
+        assertEquals(TeamStatus.READY, status(statusChanged.getId()));
+        assertEquals(TeamStatus.WAITING, status(extended.getId()));
+        assertTrue(scheduler.isScheduled(extended.getId()));
+        assertEquals(TeamStatus.WAITING, status(beyondHorizon.getId()));
+    }
+
+    private Team createTeam(LocalDateTime endTime) {
+        return teamRepo.save(Team.builder()
+                .period(Period.builder().startTime(endTime.minusHours(1)).endTime(endTime).build())
+                .maxMemberCount(4L)
+                .location(TeamLocation.ONLINE)
+                .status(TeamStatus.WAITING)
+                .project(projectRepo.getById(1L))
+                .subject("TEST DEADLINE")
+                .description("TEST DEADLINE")
+                .build());
+    }
+
+    private TeamStatus status(Long teamId) {
+        return teamRepo.findById(teamId).map(Team::getStatus).orElse(null);
+    }
+
+    private void await(BooleanSupplier condition) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(TIMEOUT_SECONDS);
+        while (!condition.getAsBoolean() && System.nanoTime() < deadline)
+            Thread.sleep(100);
+        assertTrue(condition.getAsBoolean(), "fail : condition not met in " + TIMEOUT_SECONDS + "s");
+    }
+}
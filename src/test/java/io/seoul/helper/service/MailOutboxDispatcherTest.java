@@ -0,0 +1,58 @@
+package io.seoul.helper.service;
+
+import io.seoul.helper.domain.mail.MailOutbox;
+import io.seoul.helper.domain.mail.MailOutboxStatus;
+import io.seoul.helper.repository.mail.MailOutboxRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.mail.MailSendException;
+import org.springframework.mail.SimpleMailMessage;
+import org.springframework.mail.javamail.JavaMailSender;
+import org.springframework.test.context.TestPropertySource;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.Mockito.doThrow;
+
+@Slf4j
+@SpringBootTest(properties = {"helper.mail-outbox.max-attempts=2", "helper.mail-outbox.initial-backoff-seconds=0",
+        "helper.mail-outbox.rate-per-second=1000", "management.health.mail.enabled=false"})
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+@TestPropertySource(locations = "classpath:application.yaml")
+public class MailOutboxDispatcherTest {
+    @Autowired
+    private MailOutboxDispatcher dispatcher;
+
+    @Autowired
+    private MailOutboxRepository outboxRepo;
+
+    @MockBean
+    private JavaMailSender mailSender;
+
+    @Test
+    public void dispatchTest() throws Exception {
+        doThrow(new MailSendException("smtp is down")).when(mailSender)
+                .send(argThat((SimpleMailMessage o) -> o.getTo()[0].startsWith("fail")));
+        MailOutbox ok = outboxRepo.save(MailOutbox.builder()
+                .recipient("ok@mail.com").subject("ok").content("ok").build());
+        MailOutbox fail = outboxRepo.save(MailOutbox.builder()
+                .recipient("fail@mail.com").subject("fail").content("fail").build());
+
+        assertTrue(dispatcher.dispatch() >= 2);
+        assertEquals(MailOutboxStatus.SENT, outboxRepo.findById(ok.getId()).get().getStatus());
+        MailOutbox retried = outboxRepo.findById(fail.getId()).get();
+        assertEquals(MailOutboxStatus.PENDING, retried.getStatus());
+        assertEquals(1, retried.getAttempts());
+        assertNotNull(retried.getLastError());
+
+        dispatcher.dispatch();
+        MailOutbox dead = outboxRepo.findById(fail.getId()).get();
+        assertEquals(MailOutboxStatus.DEAD, dead.getStatus());
+        assertEquals(2, dead.getAttempts());
+        assertEquals(1, outboxRepo.findById(ok.getId()).get().getAttempts());
+    }
+}
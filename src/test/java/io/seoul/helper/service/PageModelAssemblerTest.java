@@ -0,0 +1,174 @@
+package io.seoul.helper.service;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import io.seoul.helper.config.auth.dto.SessionUser;
+import io.seoul.helper.controller.team.dto.TeamListRequestDto;
+import io.seoul.helper.domain.team.TeamStatus;
+import io.seoul.helper.repository.user.UserRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.domain.Page;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.mock.web.MockServletContext;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.thymeleaf.ITemplateEngine;
+import org.thymeleaf.context.WebContext;
+
+import java.util.*;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@Slf4j
+@SpringBootTest
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+@TestPropertySource(locations = "classpath:application.yaml")
+public class PageModelAssemblerTest {
+    private static final long DEADLINE_MILLIS = 300;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Autowired
+    private TeamService teamService;
+
+    @Autowired
+    private UserRepository userRepo;
+
+    @Autowired
+    private ITemplateEngine templateEngine;
+
+    private SimpleMeterRegistry meterRegistry;
+    private PageModelAssembler assembler;
+
+    @AfterEach
+    public void cleanup() {
+        assembler.shutdown();
+    }
+
+    @Test
+    public void deadlineTest() {
+        assembler = create(2, 4);
+        Map<String, Supplier<?>> loads = new LinkedHashMap<>();
+        loads.put("fast", () -> "loaded");
+        loads.put("slow", () -> sleep(10000));
+
+        long started = System.nanoTime();
+        Map<String, Object> attributes = assembler.assemble("test", loads,
+                Collections.singletonMap("slow", "fallback"));
+        long elapsedMillis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - started);
+
+        assertTrue(elapsedMillis < DEADLINE_MILLIS + 1000, "fail : waited " + elapsedMillis + "ms");
+        assertEquals("loaded", attributes.get("fast"));
+        assertEquals("fallback", attributes.get("slow"));
+        assertEquals(1.0, meterRegistry.counter("page.loader.deadline.exceeded",
+                "page", "test", "load", "slow").count());
+    }
+
+    @Test
+    public void fallbackTest() {
+        assembler = create(2, 4);
+        Map<String, Supplier<?>> loads = new LinkedHashMap<>();
+        loads.put("failed", () -> {
+            throw new IllegalStateException("fail : load failed");
+        });
+        loads.put("empty", () -> null);
+        loads.put("unhandled", () -> {
+            throw new IllegalStateException("fail : load failed");
+        });
+        Map<String, Object> fallbacks = new HashMap<>();
+        fallbacks.put("failed", Page.empty());
+        fallbacks.put("empty", Collections.emptyList());
+
+        Map<String, Object> attributes = assembler.assemble("test", loads, fallbacks);
+
+        assertEquals(Page.empty(), attributes.get("failed"));
+        assertEquals(Collections.emptyList(), attributes.get("empty"));
+        assertTrue(attributes.containsKey("unhandled"));
+        assertNull(attributes.get("unhandled"));
+    }
+
+    /**
+     * One worker and a one-slot queue: the first load holds the worker until the third one runs,
+     * which is only possible if the rejected third load runs on the calling thread.
+     */
+    @Test
+    public void callerRunsTest() {
+        assembler = create(1, 1);
+        CountDownLatch released = new CountDownLatch(1);
+        Map<String, Supplier<?>> loads = new LinkedHashMap<>();
+        loads.put("first", () -> {
+            try {
+                return released.await(DEADLINE_MILLIS, TimeUnit.MILLISECONDS) ? "first" : null;
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return null;
+            }
+        });
+        loads.put("queued", () -> "queued");
+        loads.put("rejected", () -> {
+            released.countDown();
+            return Thread.currentThread().getName();
+        });
+
+        Map<String, Object> attributes = assembler.assemble("test", loads, Collections.emptyMap());
+
+        assertEquals(Thread.currentThread().getName(), attributes.get("rejected"));
+        assertEquals("first", attributes.get("first"));
+        assertEquals("queued", attributes.get("queued"));
+    }
+
+    @Test
+    public void renderWithFallbackTest() {
+        assembler = create(2, 4, 3000);
+        SessionUser user = new SessionUser(userRepo.findById(1L).orElseThrow(IllegalStateException::new));
+        TeamListRequestDto allTeamDto = new TeamListRequestDto();
+        allTeamDto.setStatusList(Arrays.asList(TeamStatus.WAITING, TeamStatus.READY, TeamStatus.FULL));
+
+        Map<String, Supplier<?>> loads = new LinkedHashMap<>();
+        loads.put("allTeams", () -> teamService.findTeams(allTeamDto));
+        loads.put("myTeams", () -> sleep(10000));
+        Map<String, Object> fallbacks = new HashMap<>();
+        fallbacks.put("allTeams", Page.empty());
+        fallbacks.put("myTeams", Page.empty());
+        Map<String, Object> model = new HashMap<>(assembler.assemble("home", loads, fallbacks));
+        assertFalse(((Page<?>) model.get("allTeams")).isEmpty());
+        assertEquals(Page.empty(), model.get("myTeams"));
+        model.put("user", user);
+        model.put("userNickname", user.getNickname());
+        model.put("projects", Collections.emptyList());
+        model.put("locations", teamService.findAllLocation());
+
+        MockServletContext servletContext = new MockServletContext();
+        String html = templateEngine.process("index", new WebContext(new MockHttpServletRequest(servletContext),
+                new MockHttpServletResponse(), servletContext, Locale.KOREA, model));
+
+        assertTrue(html.contains("</html>"));
+    }
+
+    private PageModelAssembler create(int poolSize, int queueCapacity) {
+        return create(poolSize, queueCapacity, DEADLINE_MILLIS);
+    }
+
+    private PageModelAssembler create(int poolSize, int queueCapacity, long deadlineMillis) {
+        meterRegistry = new SimpleMeterRegistry();
+        return new PageModelAssembler(transactionManager, meterRegistry, poolSize, queueCapacity, deadlineMillis);
+    }
+
+    private Object sleep(long millis) {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        return "too late";
+    }
+}
@@ -56,6 +56,8 @@ public class ReviewServiewBatchTest {
     private MemberService memberService;
     @Autowired
     private ReviewService reviewService;
+    @Autowired
+    private TeamInnerService teamInnerService;
 
     List<User> userList;
     Team team;
@@ -187,7 +189,7 @@ public class ReviewServiewBatchTest {
         assertEquals(team.getStatus(), TeamStatus.REVIEW);
         reviewService.updateReviewsTimeoutBatch(LocalDateTime.now().plusDays(6));
         reviewList.forEach(o -> assertNotEquals(o.getStatus(), ReviewStatus.TIMEOUT));
-        assertEquals(team.getStatus(), TeamStatus.REVIEW);
+        assertEquals(teamRepo.getById(team.getId()).getStatus(), TeamStatus.REVIEW);
     }
 
     @Test
@@ -196,7 +198,7 @@ public class ReviewServiewBatchTest {
         assertEquals(team.getStatus(), TeamStatus.REVIEW);
         reviewService.updateReviewsTimeoutBatch(LocalDateTime.now().plusDays(7));
         reviewList.forEach(o -> checkReviewUpdated(reviewRepo.getById(o.getId())));
-        assertEquals(team.getStatus(), TeamStatus.END);
+        assertEquals(teamRepo.getById(team.getId()).getStatus(), TeamStatus.END);
     }
 
     @Test
@@ -223,7 +225,22 @@ public class ReviewServiewBatchTest {
         reviewList.addAll(addList);
         reviewService.updateReviewsTimeoutBatch(LocalDateTime.now().plusDays(8));
         reviewList.forEach(o -> assertEquals(reviewRepo.getById(o.getId()).getStatus(), ReviewStatus.TIMEOUT));
-        assertEquals(team.getStatus(), TeamStatus.END);
+        assertEquals(teamRepo.getById(team.getId()).getStatus(), TeamStatus.END);
+    }
+
+    @Test
+    @Transactional
+    public void pendingReviewCountTest() {
+        long waitCount = reviewList.stream()
+                .filter(o -> o.getStatus() == ReviewStatus.WAIT)
+                .count();
+        teamInnerService.repairPendingReviewCounts();
+        assertEquals(waitCount, teamRepo.getById(team.getId()).getPendingReviewCount().longValue());
+        assertEquals(teamRepo.getById(team.getId()).getStatus(), TeamStatus.REVIEW);
+
+        reviewService.updateReviewsTimeoutBatch(LocalDateTime.now().plusDays(7));
+        assertEquals(0, teamRepo.getById(team.getId()).getPendingReviewCount());
+        assertEquals(teamRepo.getById(team.getId()).getStatus(), TeamStatus.END);
     }
 
     private void checkReviewUpdated(Review target) {
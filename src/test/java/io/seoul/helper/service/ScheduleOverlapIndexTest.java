@@ -0,0 +1,67 @@
+package io.seoul.helper.service;
+
+import io.seoul.helper.repository.team.TeamPeriod;
+import lombok.extern.slf4j.Slf4j;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.TestPropertySource;
+
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Map;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@Slf4j
+@SpringBootTest
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+@TestPropertySource(locations = "classpath:application.yaml")
+public class ScheduleOverlapIndexTest {
+    @Autowired
+    private ScheduleOverlapIndex scheduleOverlapIndex;
+
+    @Test
+    public void findOverlapTest() {
+        LocalDateTime start = LocalDateTime.of(2022, 8, 3, 14, 0);
+
+        assertEquals(Optional.of(1L), scheduleOverlapIndex.findOverlap(1L, start, start.plusHours(2)));
+        assertFalse(scheduleOverlapIndex.findOverlap(1L, start.plusHours(1), start.plusHours(2)).isPresent());
+    }
+
+    @Test
+    public void findOverlapsSweepTest() {
+        LocalDateTime day = LocalDateTime.of(2022, 9, 1, 0, 0);
+        ScheduleOverlapIndex.UserSchedule schedule = new ScheduleOverlapIndex.UserSchedule(Arrays.asList(
+                new TeamPeriod(10L, day.plusHours(10), day.plusHours(12)),
+                new TeamPeriod(11L, day.plusHours(13), day.plusHours(18)),
+                new TeamPeriod(12L, day.plusHours(14), day.plusHours(15))));
+
+        Map<Long, Long> overlaps = schedule.findOverlaps(Arrays.asList(
+                new TeamPeriod(20L, day.plusHours(12), day.plusHours(13)),
+                new TeamPeriod(21L, day.plusHours(14).plusMinutes(30), day.plusHours(14).plusMinutes(45)),
+                new TeamPeriod(22L, day.plusHours(8), day.plusHours(20)),
+                new TeamPeriod(23L, day.plusHours(11).plusMinutes(59), day.plusHours(12).plusMinutes(1)),
+                new TeamPeriod(10L, day.plusHours(10), day.plusHours(12)),
+                new TeamPeriod(11L, day.plusHours(13), day.plusHours(18))));
+
+        assertFalse(overlaps.containsKey(20L), "fail : touching ends must not overlap");
+        assertTrue(Arrays.asList(11L, 12L).contains(overlaps.get(21L)), "fail : contained period must overlap");
+        assertTrue(Arrays.asList(10L, 11L, 12L).contains(overlaps.get(22L)), "fail : containing period must overlap");
+        assertEquals(10L, overlaps.get(23L));
+        assertFalse(overlaps.containsKey(10L), "fail : a team must not conflict with itself");
+        assertEquals(12L, overlaps.get(11L));
+    }
+
+    @Test
+    public void findOverlapsEmptyScheduleTest() {
+        LocalDateTime day = LocalDateTime.of(2022, 9, 1, 0, 0);
+        ScheduleOverlapIndex.UserSchedule schedule = new ScheduleOverlapIndex.UserSchedule(Collections.emptyList());
+
+        assertTrue(schedule.findOverlaps(Collections.singletonList(
+                new TeamPeriod(1L, day, day.plusHours(1)))).isEmpty());
+    }
+}
@@ -2,13 +2,21 @@ package io.seoul.helper.service;
 
 import io.seoul.helper.config.auth.dto.SessionUser;
 import io.seoul.helper.controller.review.dto.ReviewNeedSettleResponseDto;
+import io.seoul.helper.controller.settle.dto.SettleNeedPaidGroupByUserResponseDto;
+import io.seoul.helper.controller.settle.dto.SettleBulkPostResponseDto;
+import io.seoul.helper.controller.settle.dto.SettleExportRequestDto;
+import io.seoul.helper.controller.settle.dto.SettlePayRequestDto;
+import io.seoul.helper.controller.settle.dto.SettlePayResponseDto;
+import io.seoul.helper.controller.settle.dto.SettlePayResult;
 import io.seoul.helper.controller.settle.dto.SettlePostRequestDto;
+import io.seoul.helper.controller.settle.dto.SettlePostResult;
 import io.seoul.helper.controller.settle.dto.SettleResponseDto;
 import io.seoul.helper.domain.member.Member;
 import io.seoul.helper.domain.member.MemberRole;
 import io.seoul.helper.domain.review.Review;
 import io.seoul.helper.domain.review.ReviewStatus;
 import io.seoul.helper.domain.review.Score;
+import io.seoul.helper.domain.settle.Settle;
 import io.seoul.helper.domain.settle.SettleStatus;
 import io.seoul.helper.domain.team.Period;
 import io.seoul.helper.domain.team.Team;
@@ -19,6 +27,7 @@ import io.seoul.helper.domain.user.User;
 import io.seoul.helper.repository.member.MemberRepository;
 import io.seoul.helper.repository.project.ProjectRepository;
 import io.seoul.helper.repository.review.ReviewRepository;
+import io.seoul.helper.repository.settle.SettleQueueRepository;
 import io.seoul.helper.repository.settle.SettleRepository;
 import io.seoul.helper.repository.team.TeamRepository;
 import io.seoul.helper.repository.user.UserRepository;
@@ -28,11 +37,17 @@ import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.test.context.TestPropertySource;
 
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
 import java.time.LocalDateTime;
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
 import java.util.List;
+import java.util.stream.Collectors;
 
-import static org.junit.jupiter.api.Assertions.fail;
+import static org.junit.jupiter.api.Assertions.*;
 
 @Slf4j
 @SpringBootTest
@@ -45,6 +60,12 @@ public class SettleServiceTest {
     @Autowired
     private SettleService settleService;
 
+    @Autowired
+    private SettleExportService settleExportService;
+
+    @Autowired
+    private SettleQueueService settleQueueService;
+
     @Autowired
     private ProjectRepository projectRepo;
 
@@ -63,6 +84,9 @@ public class SettleServiceTest {
     @Autowired
     private SettleRepository settleRepo;
 
+    @Autowired
+    private SettleQueueRepository settleQueueRepo;
+
     private List<Review> reviewList;
     private List<User> userList;
     private List<Team> teamList;
@@ -234,6 +258,230 @@ public class SettleServiceTest {
         }
     }
 
+    @Test
+    public void payWalletTest() throws Exception {
+        SessionUser sessionUser = new SessionUser(userList.get(0));
+        Review review = reviewRepo.save(Review.builder()
+                .team(teamList.get(0))
+                .user(userList.get(1))
+                .score(Score.builder().fun(4).interested(4).nice(4).time(4).build())
+                .status(ReviewStatus.UPDATED)
+                .description("TEST PAY WALLET REVIEW")
+                .build());
+        reviewList.add(review);
+        Settle settle = settleRepo.save(Settle.builder()
+                .admin(userList.get(0))
+                .review(review)
+                .status(SettleStatus.PASS)
+                .walletPaid(false)
+                .build());
+        settleList.add(SettleResponseDto.builder().id(settle.getId()).build());
+
+        List<SettlePayRequestDto> dtos = Arrays.asList(
+                SettlePayRequestDto.builder().id(settle.getId()).build(),
+                SettlePayRequestDto.builder().id(-1L).build());
+        String key = "test-pay-wallet-" + settle.getId();
+        SettlePayResponseDto first = settleService.payWallet(sessionUser, key, dtos);
+        assertFalse(first.isReplayed());
+        assertEquals(1, first.getPaid());
+        assertEquals(1, first.getMissing());
+        assertTrue(settleRepo.findById(settle.getId()).map(Settle::getWalletPaid).orElse(false));
+
+        SettlePayResponseDto retried = settleService.payWallet(sessionUser, key, dtos);
+        assertTrue(retried.isReplayed());
+        assertEquals(SettlePayResult.PAID, retried.getResults().get(0).getResult());
+        assertEquals(SettlePayResult.MISSING, retried.getResults().get(1).getResult());
+
+        SettlePayResponseDto again = settleService.payWallet(sessionUser, null, dtos.subList(0, 1));
+        assertEquals(SettlePayResult.ALREADY_PAID, again.getResults().get(0).getResult());
+        assertThrows(Exception.class, () -> settleService.payWallet(sessionUser, key, dtos.subList(0, 1)));
+    }
+
+    @Test
+    public void postSettlesTest() throws Exception {
+        SessionUser sessionUser = new SessionUser(userList.get(0));
+        Review review = reviewRepo.save(Review.builder()
+                .team(teamList.get(0))
+                .user(userList.get(2))
+                .score(Score.builder().fun(4).interested(4).nice(4).time(4).build())
+                .status(ReviewStatus.UPDATED)
+                .description("TEST BULK SETTLE REVIEW")
+                .build());
+        reviewList.add(review);
+        settleQueueService.enqueue(review);
+
+        List<SettlePostRequestDto> dtos = Arrays.asList(
+                SettlePostRequestDto.builder().reviewId(review.getId()).status(SettleStatus.PASS).build(),
+                SettlePostRequestDto.builder().reviewId(review.getId()).status(SettleStatus.SHORT).build(),
+                SettlePostRequestDto.builder().reviewId(-1L).status(SettleStatus.PASS).build(),
+                SettlePostRequestDto.builder().reviewId(review.getId()).build(),
+                SettlePostRequestDto.builder().reviewId(reviewList.get(0).getId()).status(SettleStatus.PASS).build());
+        SettleBulkPostResponseDto rst = settleService.postSettles(sessionUser, dtos);
+        settleRepo.findAll().stream()
+                .filter(o -> o.getReview().getId().equals(review.getId()))
+                .forEach(o -> settleList.add(SettleResponseDto.builder().id(o.getId()).build()));
+
+        assertEquals(1, rst.getCreated());
+        assertEquals(4, rst.getRejected());
+        assertEquals(SettlePostResult.CREATED, rst.getResults().get(0).getResult());
+        assertEquals(SettlePostResult.DUPLICATED, rst.getResults().get(1).getResult());
+        assertEquals(SettlePostResult.MISSING, rst.getResults().get(2).getResult());
+        assertEquals(SettlePostResult.INVALID, rst.getResults().get(3).getResult());
+        assertEquals(SettlePostResult.NOT_UPDATED, rst.getResults().get(4).getResult());
+        assertEquals(1, settleList.stream().filter(o -> settleRepo.findById(o.getId())
+                .map(settle -> settle.getReview().getId().equals(review.getId())).orElse(false)).count());
+
+        SettleBulkPostResponseDto again = settleService.postSettles(sessionUser, dtos.subList(0, 1));
+        assertEquals(SettlePostResult.ALREADY_SETTLED, again.getResults().get(0).getResult());
+    }
+
+    @Test
+    public void repairPendingTest() {
+        long pending = settleQueueService.repairPending();
+        assertEquals(settleQueueRepo.count(), pending);
+        assertEquals(pending, settleQueueService.countPending());
+    }
+
+    @Test
+    public void exportSettlesTest() throws Exception {
+        SessionUser sessionUser = new SessionUser(userList.get(0));
+        SettleExportRequestDto dto = new SettleExportRequestDto();
+        dto.setStatus(SettleStatus.PASS);
+
+        ByteArrayOutputStream csv = new ByteArrayOutputStream();
+        settleExportService.exportSettles(sessionUser, dto).writeTo(csv);
+        String[] lines = csv.toString(StandardCharsets.UTF_8.name()).split("\r\n");
+        assertTrue(lines[0].endsWith("settle_id,status,wallet_paid,created,updated,admin,review_id,fun,nice,time," +
+                "interested,description,team_id,team_subject,user_id,email,nickname,fullname,member_role"));
+        for (int i = 1; i < lines.length; i++)
+            assertTrue(lines[i].contains(",PASS,"));
+
+        dto.setFormat(SettleExportService.FORMAT_NDJSON);
+        ByteArrayOutputStream ndjson = new ByteArrayOutputStream();
+        settleExportService.exportSettles(sessionUser, dto).writeTo(ndjson);
+        assertEquals(lines.length - 1, ndjson.toString(StandardCharsets.UTF_8.name()).split("\n", -1).length - 1);
+
+        dto.setFormat("xlsx");
+        assertThrows(Exception.class, () -> settleExportService.exportSettles(sessionUser, dto));
+        assertThrows(Exception.class, () -> settleExportService.exportSettles(new SessionUser(userList.get(1)), dto));
+    }
+
+    /**
+     * help_tester_2 is a mentee of the first team and the mentor of a second one, so its unpaid
+     * settles are split across both lists. Paid and SHORT settles are left out. Settles created by
+     * the other tests are ignored; only the ones made here are checked.
+     */
+    @Test
+    public void settleNeedPaidGroupByUserTest() throws Exception {
+        User mentor = userList.get(1);
+        User mentee = userList.get(2);
+        Team team = teamRepo.save(Team.builder()
+                .subject("Settle Group Test Team")
+                .description("Settle Group Test Team")
+                .location(TeamLocation.ONLINE)
+                .maxMemberCount(10L)
+                .period(teamList.get(0).getPeriod())
+                .status(TeamStatus.END)
+                .project(projectRepo.getById(1L))
+                .build());
+        teamList.add(team);
+        memberRepo.save(Member.builder().team(team).user(mentor).creator(true).role(MemberRole.MENTOR).build());
+        memberRepo.save(Member.builder().team(team).user(mentee).creator(false).role(MemberRole.MENTEE).build());
+
+        Long menteeSettle = createSettle(teamList.get(0), mentor, SettleStatus.PASS, false);
+        Long mentorSettle = createSettle(team, mentor, SettleStatus.PASS, false);
+        Long secondMentorSettle = createSettle(team, mentor, SettleStatus.PASS, false);
+        Long otherMenteeSettle = createSettle(team, mentee, SettleStatus.PASS, false);
+        Long paidSettle = createSettle(team, mentee, SettleStatus.PASS, true);
+        Long shortSettle = createSettle(team, mentee, SettleStatus.SHORT, false);
+        List<Long> created = Arrays.asList(menteeSettle, mentorSettle, secondMentorSettle,
+                otherMenteeSettle, paidSettle, shortSettle);
+
+        List<SettleNeedPaidGroupByUserResponseDto> groups = settleService.getSettleNeedPaidGroupByUser();
+
+        List<Long> userIds = groups.stream().map(o -> o.getUser().getId()).collect(Collectors.toList());
+        assertEquals(userIds.stream().sorted().collect(Collectors.toList()), userIds);
+        assertEquals(userIds.size(), new HashSet<>(userIds).size());
+        SettleNeedPaidGroupByUserResponseDto mentorGroup = groups.stream()
+                .filter(o -> o.getUser().getId().equals(mentor.getId()))
+                .findFirst().orElseThrow(() -> new AssertionError("fail : no group for the mentor"));
+        SettleNeedPaidGroupByUserResponseDto menteeGroup = groups.stream()
+                .filter(o -> o.getUser().getId().equals(mentee.getId()))
+                .findFirst().orElseThrow(() -> new AssertionError("fail : no group for the mentee"));
+
+        assertEquals(mentor.getNickname(), mentorGroup.getUser().getNickname());
+        assertEquals(Arrays.asList(mentorSettle, secondMentorSettle), settleIds(mentorGroup.getMentorSettles(), created));
+        assertEquals(Collections.singletonList(menteeSettle), settleIds(mentorGroup.getMenteeSettles(), created));
+        assertEquals(Collections.emptyList(), settleIds(menteeGroup.getMentorSettles(), created));
+        assertEquals(Collections.singletonList(otherMenteeSettle), settleIds(menteeGroup.getMenteeSettles(), created));
+    }
+
+    private Long createSettle(Team team, User user, SettleStatus status, boolean walletPaid) {
+        Review review = reviewRepo.save(Review.builder()
+                .team(team)
+                .user(user)
+                .score(Score.builder().fun(4).interested(4).nice(4).time(4).build())
+                .status(ReviewStatus.UPDATED)
+                .description("TEST SETTLE GROUP REVIEW")
+                .build());
+        reviewList.add(review);
+        Settle settle = settleRepo.save(Settle.builder()
+                .admin(userList.get(0))
+                .review(review)
+                .status(status)
+                .walletPaid(walletPaid)
+                .build());
+        settleList.add(SettleResponseDto.builder().id(settle.getId()).build());
+        return settle.getId();
+    }
+
+    private List<Long> settleIds(List<SettleResponseDto> settles, List<Long> created) {
+        return settles.stream()
+                .map(SettleResponseDto::getId)
+                .filter(created::contains)
+                .collect(Collectors.toList());
+    }
+
+    /**
+     * The review is written by a seeded user who is not a member of the team, and its settle was
+     * never marked paid or unpaid; the export still lists it, with an empty role, as unpaid.
+     */
+    @Test
+    public void exportWithoutMemberTest() throws Exception {
+        SessionUser sessionUser = new SessionUser(userList.get(0));
+        Review review = reviewRepo.save(Review.builder()
+                .team(teamList.get(0))
+                .user(userRepo.getById(6L))
+                .score(Score.builder().fun(4).interested(4).nice(4).time(4).build())
+                .status(ReviewStatus.UPDATED)
+                .description("TEST EXPORT WITHOUT MEMBER")
+                .build());
+        reviewList.add(review);
+        Settle settle = settleRepo.save(Settle.builder()
+                .admin(userList.get(0))
+                .review(review)
+                .status(SettleStatus.SHORT)
+                .build());
+        settleList.add(SettleResponseDto.builder().id(settle.getId()).build());
+
+        SettleExportRequestDto dto = new SettleExportRequestDto();
+        dto.setStatus(SettleStatus.SHORT);
+        dto.setWalletPaid(false);
+        ByteArrayOutputStream csv = new ByteArrayOutputStream();
+        settleExportService.exportSettles(sessionUser, dto).writeTo(csv);
+        String row = Arrays.stream(csv.toString(StandardCharsets.UTF_8.name()).split("\r\n"))
+                .filter(line -> line.startsWith(settle.getId() + ","))
+                .findFirst()
+                .orElseThrow(() -> new AssertionError("fail : settle without member is not exported"));
+        assertTrue(row.startsWith(settle.getId() + ",SHORT,false,"));
+        assertTrue(row.endsWith(",test6,tester006,"), row);
+
+        dto.setWalletPaid(true);
+        ByteArrayOutputStream paid = new ByteArrayOutputStream();
+        settleExportService.exportSettles(sessionUser, dto).writeTo(paid);
+        assertFalse(paid.toString(StandardCharsets.UTF_8.name()).contains("\r\n" + settle.getId() + ","));
+    }
+
     @AfterAll
     public void cleanup() {
         settleList.forEach(s -> {
@@ -0,0 +1,66 @@
+package io.seoul.helper.service;
+
+import io.seoul.helper.controller.team.dto.TeamBatchResponseDto;
+import io.seoul.helper.domain.team.TeamStatus;
+import io.seoul.helper.repository.team.TeamRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@Slf4j
+@SpringBootTest(properties = "helper.batch.chunk-size=2")
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+@TestPropertySource(locations = "classpath:application.yaml")
+public class TeamBatchServiceTest {
+    @Autowired
+    private TeamBatchService teamBatchService;
+
+    @Autowired
+    private TeamRepository teamRepo;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    private final List<Long> expired = new ArrayList<>();
+
+    /**
+     * The batch commits its chunks in its own transactions, so the seeded teams it timed out are
+     * put back to WAITING here for the other tests.
+     */
+    @AfterAll
+    public void cleanup() {
+        if (expired.isEmpty())
+            return;
+        new TransactionTemplate(transactionManager).execute(status -> teamRepo.updateTeamStatusByIdIn(
+                expired, TeamStatus.TIMEOUT, TeamStatus.WAITING, LocalDateTime.now()));
+    }
+
+    @Test
+    public void timeoutTeamsTest() {
+        LocalDateTime now = LocalDateTime.now();
+        expired.addAll(teamRepo.findTeamIdsByStatusAndEndTimeBefore(
+                TeamStatus.WAITING, now, 0L, Pageable.unpaged()));
+
+        TeamBatchResponseDto result = teamBatchService.timeoutTeams(now);
+
+        assertEquals(expired.size(), result.getUpdatedCount());
+        assertEquals((expired.size() + 1) / 2, result.getChunkCount());
+        assertTrue(expired.containsAll(result.getSampleTeamIds()));
+        assertTrue(teamRepo.findTeamIdsByStatusAndEndTimeBefore(
+                TeamStatus.WAITING, now, 0L, Pageable.unpaged()).isEmpty());
+        expired.forEach(id -> assertEquals(TeamStatus.TIMEOUT, teamRepo.findById(id).get().getStatus()));
+    }
+}
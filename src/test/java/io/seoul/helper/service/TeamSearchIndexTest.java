@@ -0,0 +1,101 @@
+package io.seoul.helper.service;
+
+import io.seoul.helper.controller.team.dto.TeamSearchRequestDto;
+import io.seoul.helper.controller.team.dto.TeamSearchResponseDto;
+import io.seoul.helper.domain.team.TeamStatus;
+import io.seoul.helper.repository.team.TeamRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.time.LocalDateTime;
+import java.util.Collections;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@Slf4j
+@SpringBootTest
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+@TestPropertySource(locations = "classpath:application.yaml")
+public class TeamSearchIndexTest {
+    @Autowired
+    private TeamSearchIndex teamSearchIndex;
+
+    @Autowired
+    private TeamRepository teamRepo;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Test
+    public void searchByProjectNameTest() throws Exception {
+        TeamSearchRequestDto dto = new TeamSearchRequestDto();
+        dto.setQuery("libft");
+        List<TeamSearchResponseDto> teams = teamSearchIndex.search(dto);
+
+        assertFalse(teams.isEmpty());
+        teams.forEach(t -> assertEquals("Libft", t.getProjectName()));
+    }
+
+    @Test
+    public void searchHighlightAndStatusFilterTest() throws Exception {
+        TeamSearchRequestDto dto = new TeamSearchRequestDto();
+        dto.setQuery("제목입니다");
+        dto.setStatusList(Collections.singletonList(TeamStatus.READY));
+        List<TeamSearchResponseDto> teams = teamSearchIndex.search(dto);
+
+        assertFalse(teams.isEmpty());
+        teams.forEach(t -> {
+            assertEquals(TeamStatus.READY, t.getStatus());
+            assertTrue(t.getSubjectSnippet().contains("<b>"));
+        });
+    }
+
+    @Test
+    public void searchPartialKoreanTest() throws Exception {
+        TeamSearchRequestDto dto = new TeamSearchRequestDto();
+        dto.setQuery("제목");
+        List<TeamSearchResponseDto> teams = teamSearchIndex.search(dto);
+
+        assertFalse(teams.isEmpty());
+        teams.forEach(t -> {
+            assertTrue(t.getSubject().contains("제목"));
+            assertTrue(t.getSubjectSnippet().contains("<b>"));
+        });
+    }
+
+    /**
+     * The index under test is built by hand and gets no AFTER_COMMIT events, like an index on
+     * another node, and the subject is changed over JDBC, so only the watermark can find it.
+     */
+    @Test
+    public void catchUpTest() throws Exception {
+        TeamSearchIndex otherNode = new TeamSearchIndex(teamRepo, transactionManager, 0);
+        String subject = jdbcTemplate.queryForObject("SELECT subject FROM team WHERE id = 1", String.class);
+        try {
+            otherNode.load();
+            jdbcTemplate.update("UPDATE team SET subject = ?, updated = ? WHERE id = 1",
+                    "다른노드에서수정", LocalDateTime.now());
+
+            TeamSearchRequestDto dto = new TeamSearchRequestDto();
+            dto.setQuery("노드");
+            List<Long> teamIds = otherNode.search(dto).stream()
+                    .map(TeamSearchResponseDto::getTeamId)
+                    .collect(Collectors.toList());
+            assertEquals(Collections.singletonList(1L), teamIds);
+        } finally {
+            jdbcTemplate.update("UPDATE team SET subject = ?, updated = ? WHERE id = 1", subject, LocalDateTime.now());
+            otherNode.close();
+        }
+    }
+}
@@ -0,0 +1,231 @@
+package io.seoul.helper.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.seoul.helper.config.auth.dto.SessionUser;
+import io.seoul.helper.controller.dto.VersionDto;
+import io.seoul.helper.controller.team.dto.TeamListRequestDto;
+import io.seoul.helper.controller.team.dto.TeamResponseDto;
+import io.seoul.helper.controller.team.dto.TeamSliceResponseDto;
+import io.seoul.helper.domain.team.TeamStatus;
+import io.seoul.helper.repository.team.TeamCursor;
+import io.seoul.helper.repository.user.UserRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.domain.Page;
+import org.springframework.test.context.TestPropertySource;
+
+import javax.persistence.EntityManagerFactory;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@Slf4j
+@SpringBootTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+@TestPropertySource(locations = "classpath:application.yaml")
+public class TeamServiceTest {
+    @Autowired
+    private TeamService teamService;
+
+    @Autowired
+    private ActiveTeamReadModel activeTeamReadModel;
+
+    @Autowired
+    private UserRepository userRepo;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    private Statistics statistics;
+
+    @BeforeAll
+    public void setup() {
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+    }
+
+    @Test
+    public void findTeamsStatementCountTest() {
+        long smallPageStatements = countFindTeamsStatements(2);
+        long largePageStatements = countFindTeamsStatements(10);
+
+        log.info("findTeams statements : limit 2 = {}, limit 10 = {}", smallPageStatements, largePageStatements);
+        assertTrue(smallPageStatements <= 3,
+                "fail : team list page must be id page + count + graph fetch, but was " + smallPageStatements);
+        assertTrue(largePageStatements <= 3,
+                "fail : team list page must be id page + count + graph fetch, but was " + largePageStatements);
+    }
+
+    @Test
+    public void findTeamsMembersLoadedTest() {
+        TeamListRequestDto dto = createRequestDto(10);
+        Page<TeamResponseDto> teams = teamService.findTeams(dto);
+
+        assertNotNull(teams);
+        assertFalse(teams.getContent().isEmpty());
+        teams.forEach(t -> {
+            assertNotNull(t.getProject().getName());
+            assertEquals(t.getCurrentMemberCount().longValue(), t.getMembers().size());
+            t.getMembers().forEach(m -> assertNotNull(m.getNickname()));
+        });
+    }
+
+    @Test
+    public void findTeamsByNicknameTest() {
+        TeamListRequestDto includeDto = createRequestDto(100);
+        includeDto.setNickname("test1");
+        Page<TeamResponseDto> included = teamService.findTeams(includeDto);
+
+        TeamListRequestDto excludeDto = createRequestDto(100);
+        excludeDto.setExcludeNickname("test1");
+        Page<TeamResponseDto> excluded = teamService.findTeams(excludeDto);
+
+        assertNotNull(included);
+        assertNotNull(excluded);
+        assertFalse(included.getContent().isEmpty());
+        included.forEach(t -> assertTrue(t.getMembers().stream()
+                .anyMatch(m -> m.getNickname().equals("test1"))));
+        excluded.forEach(t -> assertTrue(t.getMembers().stream()
+                .noneMatch(m -> m.getNickname().equals("test1"))));
+    }
+
+    @Test
+    public void findTeamsVersionTest() throws Exception {
+        VersionDto first = teamService.findTeamsVersion(createRequestDto(10));
+        VersionDto second = teamService.findTeamsVersion(createRequestDto(10));
+        VersionDto otherPage = teamService.findTeamsVersion(createRequestDto(2));
+
+        assertEquals(first.getETag(), second.getETag());
+        assertNotEquals(first.getETag(), otherPage.getETag());
+
+        Page<Long> teamIds = teamService.findTeamIdPage(createRequestDto(10));
+        assertEquals(first.getETag(), teamService.findTeamsVersion(teamIds).getETag());
+        assertEquals(teamIds.getTotalElements(), teamService.findTeams(teamIds).getTotalElements());
+    }
+
+    @Test
+    public void findActiveTeamsVersionTest() {
+        TeamListRequestDto dto = createRequestDto(10);
+        dto.setStatusList(Arrays.asList(TeamStatus.WAITING, TeamStatus.READY, TeamStatus.FULL));
+        dto.setStartTimePrevious(LocalDateTime.now().plusMinutes(1));
+        dto.setSort(TeamCursor.SORT_START_TIME + ",asc");
+        ActiveTeamPage first = teamService.findActiveTeams(dto).orElseThrow(IllegalStateException::new);
+        ActiveTeamPage second = teamService.findActiveTeams(dto).orElseThrow(IllegalStateException::new);
+        assertEquals(first.getVersion().getETag(), second.getVersion().getETag());
+
+        activeTeamReadModel.refresh(Collections.singletonList(1L));
+        ActiveTeamPage refreshed = teamService.findActiveTeams(dto).orElseThrow(IllegalStateException::new);
+        assertNotEquals(first.getVersion().getETag(), refreshed.getVersion().getETag());
+    }
+
+    @Test
+    public void annotateJoinableTest() {
+        SessionUser user = new SessionUser(userRepo.findById(1L).orElseThrow(IllegalStateException::new));
+        Page<TeamResponseDto> teams = teamService.annotateJoinable(user, teamService.findTeams(createRequestDto(100)));
+
+        Map<Long, TeamResponseDto> byId = teams.stream()
+                .collect(Collectors.toMap(TeamResponseDto::getTeamId, Function.identity()));
+        assertNull(byId.get(1L).getConflictsWith());
+        assertFalse(byId.get(1L).getJoinable());
+        assertEquals(3L, byId.get(2L).getConflictsWith());
+        assertFalse(byId.get(4L).getJoinable());
+        assertTrue(Arrays.asList(2L, 3L).contains(byId.get(4L).getConflictsWith()));
+        assertFalse(byId.get(6L).getJoinable());
+        assertNull(byId.get(6L).getConflictsWith());
+    }
+
+    @Test
+    public void annotateJoinableStatusTest() {
+        SessionUser user = new SessionUser(userRepo.findById(6L).orElseThrow(IllegalStateException::new));
+        Page<TeamResponseDto> teams = teamService.annotateJoinable(user, teamService.findTeams(createRequestDto(100)));
+
+        Map<Long, TeamResponseDto> byId = teams.stream()
+                .collect(Collectors.toMap(TeamResponseDto::getTeamId, Function.identity()));
+        assertTrue(byId.get(1L).getJoinable());
+        assertFalse(byId.get(2L).getJoinable());
+        assertFalse(byId.get(3L).getJoinable());
+        assertFalse(byId.get(5L).getJoinable());
+        byId.values().forEach(t -> assertNull(t.getConflictsWith()));
+    }
+
+    @Test
+    public void joinableOmittedTest() throws Exception {
+        String json = objectMapper.writeValueAsString(teamService.findTeams(createRequestDto(1)).getContent().get(0));
+        assertFalse(json.contains("joinable"));
+        assertFalse(json.contains("conflictsWith"));
+    }
+
+    /**
+     * Walks every seeded team with the cursor and with offset pages, small enough that pages end
+     * inside the teams sharing a start time (#2 and #4), and expects the same order without gaps
+     * or duplicates.
+     */
+    @ParameterizedTest(name = "{0} by {1}")
+    @CsvSource({
+            "'period.startTime,asc', 1", "'period.startTime,asc', 3",
+            "'period.startTime,desc', 2", "'id,asc', 2", "'id,desc', 3"
+    })
+    public void seekMatchesOffsetTest(String sort, int limit) throws Exception {
+        List<Long> offsetIds = new ArrayList<>();
+        TeamListRequestDto offsetDto = createRequestDto(limit);
+        offsetDto.setSort(sort);
+        Page<Long> page;
+        do {
+            page = teamService.findTeamIdPage(offsetDto);
+            offsetIds.addAll(page.getContent());
+            offsetDto.setOffset(offsetDto.getOffset() + 1);
+        } while (page.hasNext());
+
+        List<TeamResponseDto> seekTeams = new ArrayList<>();
+        TeamListRequestDto seekDto = createRequestDto(limit);
+        seekDto.setSort(sort);
+        TeamSliceResponseDto slice;
+        do {
+            slice = teamService.findTeamsAfter(seekDto);
+            assertTrue(slice.getContent().size() <= limit);
+            seekTeams.addAll(slice.getContent());
+            seekDto.setAfter(slice.getNext());
+        } while (slice.isHasNext());
+        List<Long> seekIds = seekTeams.stream().map(TeamResponseDto::getTeamId).collect(Collectors.toList());
+
+        assertEquals(page.getTotalElements(), seekIds.size());
+        assertEquals(seekIds.size(), new HashSet<>(seekIds).size());
+        assertEquals(offsetIds, seekIds);
+        assertTrue(seekTeams.stream().map(TeamResponseDto::getStartTime).distinct().count() < seekTeams.size(),
+                "fail : no teams share a start time");
+    }
+
+    private long countFindTeamsStatements(int limit) {
+        TeamListRequestDto dto = createRequestDto(limit);
+        statistics.clear();
+        Page<TeamResponseDto> teams = teamService.findTeams(dto);
+        assertNotNull(teams);
+        return statistics.getPrepareStatementCount();
+    }
+
+    private TeamListRequestDto createRequestDto(int limit) {
+        List<TeamStatus> statusList = new ArrayList<>(Arrays.asList(TeamStatus.values()));
+        TeamListRequestDto dto = new TeamListRequestDto();
+        dto.setLimit(limit);
+        dto.setStatusList(statusList);
+        return dto;
+    }
+}
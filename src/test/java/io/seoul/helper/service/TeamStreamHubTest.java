@@ -0,0 +1,159 @@
+package io.seoul.helper.service;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import io.seoul.helper.repository.team.TeamRepository;
+import io.seoul.helper.service.event.TeamsChangedEvent;
+import lombok.extern.slf4j.Slf4j;
+import org.junit.jupiter.api.*;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * The hub under test is built by hand with a two-event queue, one delivery thread and timers far
+ * longer than the tests, which drive heartbeat() and catchUp() themselves.
+ */
+@Slf4j
+@SpringBootTest
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+@TestPropertySource(locations = "classpath:application.yaml")
+public class TeamStreamHubTest {
+    private static final long TIMEOUT_SECONDS = 5;
+
+    @Autowired
+    private TeamRepository teamRepo;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    private SimpleMeterRegistry meterRegistry;
+    private TeamStreamHub hub;
+
+    @BeforeEach
+    public void setup() {
+        meterRegistry = new SimpleMeterRegistry();
+        hub = new TeamStreamHub(teamRepo, transactionManager, meterRegistry,
+                2, 1, 3600000, 60000, 2, 3600000);
+    }
+
+    @AfterEach
+    public void cleanup() {
+        hub.shutdown();
+    }
+
+    @Test
+    public void maxSubscribersTest() {
+        assertTrue(hub.subscribe(new RecordingEmitter()).isPresent());
+        assertTrue(hub.subscribe(new RecordingEmitter()).isPresent());
+        assertFalse(hub.subscribe(new RecordingEmitter()).isPresent());
+    }
+
+    @Test
+    public void heartbeatTest() throws Exception {
+        RecordingEmitter emitter = new RecordingEmitter();
+        hub.subscribe(emitter);
+
+        hub.heartbeat();
+        assertEquals(":heartbeat", emitter.await(1).get(0));
+    }
+
+    @Test
+    public void overflowResyncTest() throws Exception {
+        RecordingEmitter emitter = new RecordingEmitter();
+        emitter.blocked = new CountDownLatch(1);
+        hub.subscribe(emitter);
+
+        publish(1L);
+        assertTrue(emitter.sending.await(TIMEOUT_SECONDS, TimeUnit.SECONDS));
+        publish(2L);
+        publish(3L);
+        publish(4L);
+        assertEquals(1.0, meterRegistry.counter("team.stream.overflow").count());
+
+        emitter.blocked.countDown();
+        List<String> events = emitter.await(2);
+        assertEquals("event:team id:1", events.get(0));
+        assertEquals("event:resync", events.get(1));
+
+        publish(5L);
+        assertEquals("event:team id:5", emitter.await(3).get(2));
+    }
+
+    /**
+     * Teams touched by other test classes are caught up too, and may overflow the two-event queue;
+     * a resync tells the client to reload just as well.
+     */
+    @Test
+    public void catchUpTest() throws Exception {
+        RecordingEmitter emitter = new RecordingEmitter();
+        hub.subscribe(emitter);
+        hub.catchUp();
+
+        new TransactionTemplate(transactionManager).execute(status -> teamRepo.touchTeam(2L, LocalDateTime.now()));
+        hub.catchUp();
+        emitter.await("event:team id:2", "event:resync");
+    }
+
+    private void publish(Long teamId) {
+        hub.onTeamsChanged(new TeamsChangedEvent(Collections.singletonList(teamId)));
+    }
+
+    /**
+     * Records the name and id of each event instead of writing it, optionally holding the first
+     * send until released so the subscriber's queue backs up behind it.
+     */
+    private static class RecordingEmitter extends SseEmitter {
+        private final List<String> events = new CopyOnWriteArrayList<>();
+        private final CountDownLatch sending = new CountDownLatch(1);
+        private CountDownLatch blocked;
+
+        @Override
+        public void send(SseEventBuilder builder) {
+            sending.countDown();
+            try {
+                if (blocked != null && !blocked.await(TIMEOUT_SECONDS, TimeUnit.SECONDS))
+                    throw new IllegalStateException("fail : send was never released");
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            events.add(builder.build().stream()
+                    .map(DataWithMediaType::getData)
+                    .filter(data -> data instanceof String)
+                    .map(data -> ((String) data).trim())
+                    .filter(data -> data.startsWith(":") || data.startsWith("event:"))
+                    .map(data -> data.replace("\ndata:", "").replace('\n', ' '))
+                    .collect(Collectors.joining()));
+        }
+
+        private List<String> await(int count) throws InterruptedException {
+            long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(TIMEOUT_SECONDS);
+            while (events.size() < count && System.nanoTime() < deadline)
+                Thread.sleep(10);
+            assertTrue(events.size() >= count, "fail : expected " + count + " events but got " + events);
+            return events;
+        }
+
+        private void await(String... anyOf) throws InterruptedException {
+            List<String> expected = Arrays.asList(anyOf);
+            long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(TIMEOUT_SECONDS);
+            while (events.stream().noneMatch(expected::contains) && System.nanoTime() < deadline)
+                Thread.sleep(10);
+            assertTrue(events.stream().anyMatch(expected::contains),
+                    "fail : expected one of " + expected + " but got " + events);
+        }
+    }
+}
@@ -0,0 +1,55 @@
+package io.seoul.helper.service.batch;
+
+import io.seoul.helper.controller.dto.BatchLeaseResponseDto;
+import io.seoul.helper.repository.batch.BatchLeaseRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.TestPropertySource;
+
+import java.time.LocalDateTime;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@Slf4j
+@SpringBootTest
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+@TestPropertySource(locations = "classpath:application.yaml")
+public class BatchLeaseServiceTest {
+    @Autowired
+    private BatchLeaseService batchLeaseService;
+
+    @Autowired
+    private BatchLeaseRepository leaseRepo;
+
+    @Test
+    public void runWithLeaseTest() throws Exception {
+        Optional<Optional<String>> result = batchLeaseService.runWithLease("test-lease",
+                () -> batchLeaseService.runWithLease("test-lease", () -> "inner"));
+
+        assertTrue(result.isPresent());
+        assertFalse(result.get().isPresent());
+        assertEquals("outer", batchLeaseService.runWithLease("test-lease", () -> "outer").orElse(null));
+
+        BatchLeaseResponseDto lease = batchLeaseService.findLeases().stream()
+                .filter(o -> o.getName().equals("test-lease"))
+                .findAny()
+                .orElseThrow(() -> new Exception("lease is not stored"));
+        assertTrue(lease.isOwned());
+        assertFalse(lease.isActive());
+    }
+
+    @Test
+    public void leaseHeldByOtherNodeTest() throws Exception {
+        LocalDateTime now = LocalDateTime.now().withNano(0);
+        assertTrue(leaseRepo.tryAcquire("test-other-node", now, now.plusMinutes(5), "other-node"));
+
+        assertFalse(batchLeaseService.runWithLease("test-other-node", () -> "run").isPresent());
+
+        assertTrue(leaseRepo.release("test-other-node", "other-node", now, now));
+        assertTrue(batchLeaseService.runWithLease("test-other-node", () -> "run").isPresent());
+    }
+}
@@ -0,0 +1,113 @@
+package io.seoul.helper.service.batch;
+
+import io.seoul.helper.controller.dto.BatchRunResponseDto;
+import io.seoul.helper.domain.batch.BatchStatus;
+import io.seoul.helper.repository.batch.IdRange;
+import lombok.extern.slf4j.Slf4j;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.TestPropertySource;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Collectors;
+import java.util.stream.LongStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@Slf4j
+@SpringBootTest(properties = {"helper.batch.chunk-size=3", "helper.batch.partitions=4"})
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+@TestPropertySource(locations = "classpath:application.yaml")
+public class BatchRunnerTest {
+    @Autowired
+    private BatchRunner batchRunner;
+
+    @Test
+    public void runPartitionsTest() throws Exception {
+        TestJob job = new TestJob("test-partitions", 1, 20);
+        job.failedIds.add(7L);
+        job.skippedIds.add(11L);
+
+        BatchRunResponseDto result = batchRunner.run(job, LocalDateTime.now());
+
+        assertEquals(BatchStatus.COMPLETED, result.getStatus());
+        assertFalse(result.isResumed());
+        assertEquals(4, result.getPartitionCount());
+        assertEquals(18, result.getProcessed());
+        assertEquals(1, result.getSkipped());
+        assertEquals(1, result.getFailed());
+        assertEquals(18, job.processedIds.size());
+    }
+
+    @Test
+    public void resumeRunTest() throws Exception {
+        TestJob job = new TestJob("test-resume", 1, 20);
+        job.brokenReads = true;
+
+        BatchRunResponseDto failed = batchRunner.run(job, LocalDateTime.now());
+        assertEquals(BatchStatus.FAILED, failed.getStatus());
+        int processedBefore = job.processedIds.size();
+        assertTrue(processedBefore < 20);
+
+        job.brokenReads = false;
+        BatchRunResponseDto resumed = batchRunner.run(job, LocalDateTime.now());
+
+        assertEquals(failed.getRunId(), resumed.getRunId());
+        assertTrue(resumed.isResumed());
+        assertEquals(BatchStatus.COMPLETED, resumed.getStatus());
+        assertEquals(20, resumed.getProcessed());
+        assertEquals(20, job.processedIds.size());
+    }
+
+    private static class TestJob implements BatchJob {
+        private final String name;
+        private final long fromId;
+        private final long toId;
+        private final Set<Long> failedIds = ConcurrentHashMap.newKeySet();
+        private final Set<Long> skippedIds = ConcurrentHashMap.newKeySet();
+        private final Set<Long> processedIds = ConcurrentHashMap.newKeySet();
+        private volatile boolean brokenReads;
+
+        private TestJob(String name, long fromId, long toId) {
+            this.name = name;
+            this.fromId = fromId;
+            this.toId = toId;
+        }
+
+        @Override
+        public String getName() {
+            return name;
+        }
+
+        @Override
+        public IdRange findPartitionRange(LocalDateTime cutoffTime) {
+            return new IdRange(fromId, toId);
+        }
+
+        @Override
+        public List<Long> readChunk(LocalDateTime cutoffTime, IdRange partition, Long lastId, int chunkSize) {
+            if (brokenReads && lastId > partition.getFromId())
+                throw new IllegalStateException("broken read");
+            return LongStream.rangeClosed(Math.max(lastId + 1, partition.getFromId()), partition.getToId())
+                    .limit(chunkSize)
+                    .boxed()
+                    .collect(Collectors.toList());
+        }
+
+        @Override
+        public int process(LocalDateTime cutoffTime, List<Long> ids) {
+            if (ids.stream().anyMatch(failedIds::contains))
+                throw new IllegalStateException("broken item");
+            List<Long> processed = ids.stream()
+                    .filter(id -> !skippedIds.contains(id))
+                    .collect(Collectors.toList());
+            processedIds.addAll(processed);
+            return processed.size();
+        }
+    }
+}